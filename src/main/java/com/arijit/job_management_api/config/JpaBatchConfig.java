@@ -0,0 +1,23 @@
+package com.arijit.job_management_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on JDBC batching for inserts, so bulk job imports send one statement
+ * per chunk instead of one per row. Explicit spring.jpa.properties win.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${jobs.import.chunk-size:500}") int chunkSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", chunkSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.arijit.job_management_api.config;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.arijit.job_management_api.filter.StatementCountFilter;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * Latency metrics for finding where a slow request spends its time: the
+ * JwtFilter stages (jwt.filter.stage), every Spring Data repository method
+ * (spring.data.repository.invocations, recorded by Spring Boot) and the
+ * Hibernate statements per request. These publish histogram buckets so p99
+ * can be computed across instances from /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final List<String> HISTOGRAM_METERS = List.of("http.server.requests", "jwt.filter.stage",
+            "spring.data.repository.invocations", "hibernate.statements.per.request");
+
+    @Bean
+    public MeterFilter latencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAM_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer(StatementCountFilter statementCountFilter) {
+        return properties -> properties.putIfAbsent("hibernate.session_factory.statement_inspector", statementCountFilter);
+    }
+}
@@ -0,0 +1,91 @@
+package com.arijit.job_management_api.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.arijit.job_management_api.service.RequestDeadline;
+
+/**
+ * Carries request deadlines (see RequestDeadlineFilter) down to the
+ * database. Connections handed out by the DataSource register every
+ * statement they create with the deadline of the calling thread, which
+ * gives it the remaining time as its query timeout and lets the filter
+ * cancel it. The task decorator, picked up by the auto-configured
+ * application task executor, binds the deadline to the async tasks Spring
+ * MVC runs for a request, such as streamed response bodies.
+ */
+@Configuration
+@ConditionalOnProperty(name = "request-deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDeadlineConfig {
+
+    @Bean
+    static BeanPostProcessor deadlineDataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return registerStatements(super.getConnection());
+                    }
+
+                    @Override
+                    public Connection getConnection(String username, String password) throws SQLException {
+                        return registerStatements(super.getConnection(username, password));
+                    }
+                };
+            }
+        };
+    }
+
+    @Bean
+    TaskDecorator requestDeadlineTaskDecorator() {
+        return task -> {
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline == null) {
+                return task;
+            }
+            return () -> {
+                RequestDeadline previous = RequestDeadline.bind(deadline);
+                try {
+                    task.run();
+                } finally {
+                    RequestDeadline.bind(previous);
+                }
+            };
+        };
+    }
+
+    // statements, prepared statements and calls are registered as they are created
+    private static Connection registerStatements(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (self, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    RequestDeadline deadline = RequestDeadline.current();
+                    if (deadline != null && result instanceof Statement statement) {
+                        deadline.register(statement);
+                    }
+                    return result;
+                });
+    }
+}
@@ -1,6 +1,8 @@
 package com.arijit.job_management_api.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,12 +13,15 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import com.arijit.job_management_api.filter.JwtFilter;
+import com.arijit.job_management_api.filter.RateLimitFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -25,17 +30,32 @@ public class SecurityConfig {
     @Autowired
     private JwtFilter jwtFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    // only runs inside the security chain, where the authenticated user is known
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public BCryptPasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:12}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
-    public AuthenticationProvider authProvider(UserDetailsService userDetailsService, BCryptPasswordEncoder passwordEncoder) {
+    public AuthenticationProvider authProvider(UserDetailsService userDetailsService,
+                                               UserDetailsPasswordService userDetailsPasswordService,
+                                               BCryptPasswordEncoder passwordEncoder) {
         // Create provider that uses database for user authentication
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
         // Set the same password encoder used during registration
         provider.setPasswordEncoder(passwordEncoder);
+        // Rehash on successful login when the stored hash uses a lower cost than configured
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
         return provider;
     }
 
@@ -45,12 +65,14 @@ public class SecurityConfig {
         http
                 .csrf(customizer -> customizer.disable())
                 .authorizeHttpRequests(request -> request
-                .requestMatchers("/register", "/login", "/logout").permitAll()
+                .requestMatchers("/register", "/login", "/logout", "/token/refresh").permitAll()
                 .anyRequest().authenticated()
                 )
                 .httpBasic(Customizer.withDefaults())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                // after HTTP Basic too, so Basic callers are bucketed by name rather than address
+                .addFilterAfter(rateLimitFilter, BasicAuthenticationFilter.class)
                 .logout(logout -> logout.disable());
 
         return http.build();
@@ -0,0 +1,39 @@
+package com.arijit.job_management_api.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Active with spring.threads.virtual.enabled=true, which runs Tomcat request
+ * handling (and the JPA calls made from it) on virtual threads.
+ *
+ * Virtual threads remove the Tomcat pool as the concurrency limit, so the
+ * Hikari pool becomes the point where requests queue. Unless the pool size
+ * is set explicitly it is raised to virtual-threads.db-pool-size; requests
+ * beyond that park cheaply until a connection frees up.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final String POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+    @Bean
+    static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(POOL_SIZE_PROPERTY)) {
+                    dataSource.setMaximumPoolSize(environment.getProperty("virtual-threads.db-pool-size", Integer.class, 50));
+                }
+                return bean;
+            }
+        };
+    }
+}
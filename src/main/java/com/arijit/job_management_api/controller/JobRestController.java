@@ -1,19 +1,50 @@
 package com.arijit.job_management_api.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.arijit.job_management_api.model.JobChangeFeed;
+import com.arijit.job_management_api.model.JobImportResult;
+import com.arijit.job_management_api.model.JobPage;
 import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.JobSuggestion;
+import com.arijit.job_management_api.model.SyntheticDataResult;
+import com.arijit.job_management_api.service.JobChangeLog;
+import com.arijit.job_management_api.service.JobChangeNotifier;
+import com.arijit.job_management_api.service.JobImportService;
+import com.arijit.job_management_api.service.JobProjectionService;
+import com.arijit.job_management_api.service.JobResponseCache;
+import com.arijit.job_management_api.service.JobResponseCache.CachedResponse;
 import com.arijit.job_management_api.service.JobService;
+import com.arijit.job_management_api.service.SyntheticDataGenerator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * REST Controller for job-related operations
@@ -21,49 +52,241 @@ import com.arijit.job_management_api.service.JobService;
 @RestController
 public class JobRestController {
 
+    private static final int MAX_SEARCH_LIMIT = 500;
+    private static final int MAX_FILTER_LIMIT = 1000;
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_PAGE_SIZE = 500;
+
+    private static final int MAX_CHANGES_LIMIT = 5000;
+    private static final int MAX_WAIT_SECONDS = 60;
+
+    private static final String NDJSON = "application/x-ndjson";
+
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobProjectionService projectionService;
+
+    @Autowired
+    private SyntheticDataGenerator syntheticDataGenerator;
+
+    @Autowired
+    private JobResponseCache responseCache;
+
+    @Autowired
+    private JobChangeLog changeLog;
+
+    @Autowired
+    private JobChangeNotifier changeNotifier;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Served from pre-encoded bytes; answers 304 when If-None-Match matches.
+     * {@code fields} (here and on the list endpoints) selects a comma separated
+     * subset of the job's properties, read with a projection query.
+     */
     @GetMapping("/jobPost/{postId}")
-    public JobPost getJob(@PathVariable int postId) {
-        return jobService.getJob(postId);
+    public ResponseEntity<byte[]> getJob(@PathVariable int postId,
+                                         @RequestParam(required = false) String fields,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields == null) {
+            return responseCache.get("jobPost:" + postId, generator -> generator.writeObject(jobService.getJob(postId)))
+                    .toResponse(acceptEncoding);
+        }
+        List<String> selected = parseFields(fields);
+        return responseCache.get("jobPost:" + postId + "?fields=" + String.join(",", selected), generator -> {
+            List<Map<String, Object>> rows = projectionService.findByIds(List.of(postId), selected);
+            generator.writeObject(rows.isEmpty() ? JobProjectionService.project(new JobPost(), selected) : rows.get(0));
+        }).toResponse(acceptEncoding);
+    }
+
+    /**
+     * Every job as one JSON array. Served from the response cache when it fits
+     * there; otherwise written page by page as it is read so the table never
+     * has to fit in memory.
+     */
+    @GetMapping(path = "/allJobs", params = {"!after", "!size"})
+    public ResponseEntity<?> getAllJobs(@RequestParam(required = false) String fields,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        List<String> selected = fields == null ? null : parseFields(fields);
+        String key = selected == null ? "allJobs" : "allJobs?fields=" + String.join(",", selected);
+        CachedResponse cached = responseCache.get(key, generator -> writeAllJobs(generator, selected));
+        if (cached != null) {
+            return cached.toResponse(acceptEncoding);
+        }
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                writeAllJobs(generator, selected);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/allJobs")
-    public List<JobPost> getAllJobs() {
-        return jobService.getAllJobs();
+    public JobPage<?> getJobsPage(@RequestParam(required = false) Integer after,
+                                  @RequestParam(defaultValue = "100") int size,
+                                  @RequestParam(required = false) String fields) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int from = after == null ? JobPage.START : after;
+        if (fields != null) {
+            return projectionService.findPage(from, pageSize, parseFields(fields));
+        }
+        return jobService.getJobsPage(from, pageSize);
     }
 
     @PostMapping("/jobPost")
     public JobPost addJob(@RequestBody JobPost jobPost) {
-        jobService.addJob(jobPost);
-        return jobService.getJob(jobPost.getPostId());
+        return jobService.addJob(jobPost);
     }
 
     @PutMapping("/jobPost")
     public JobPost updateJob(@RequestBody JobPost jobPost) {
-        jobService.updateJob(jobPost);
-        return jobService.getJob(jobPost.getPostId());
+        return jobService.updateJob(jobPost);
     }
 
     @DeleteMapping("/jobPost/{postId}")
     public String deleteJob(@PathVariable int postId) {
-        if (jobService.getJob(postId) != null) {
-            jobService.deleteJob(postId);
+        if (jobService.deleteJob(postId)) {
             return "Deleted job with id: " + postId;
         }
         return "Job with id: " + postId + " doesn't exist!";
     }
 
+    private void writeAllJobs(JsonGenerator generator, List<String> fields) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Consumer<List<?>> writePage = page -> {
+            try {
+                for (Object job : page) {
+                    writer.writeValue(generator, job);
+                }
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        generator.writeStartArray();
+        if (fields == null) {
+            jobService.forEachJobPage(STREAM_PAGE_SIZE, writePage::accept);
+        } else {
+            projectionService.forEachPage(STREAM_PAGE_SIZE, fields, writePage::accept);
+        }
+        generator.writeEndArray();
+    }
+
+    private static List<String> parseFields(String fields) {
+        try {
+            return JobProjectionService.parseFields(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @GetMapping("/load")
     public String load() {
         jobService.load();
         return "Success";
     }
 
+    /**
+     * Generates {@code jobs} posts with ids from {@code firstId} and
+     * {@code users} users from {@code seed}; the same arguments always give
+     * the same data. Answers 409 if any of those rows already exist.
+     */
+    @GetMapping(path = "/load", params = "jobs")
+    public SyntheticDataResult loadSynthetic(@RequestParam int jobs,
+                                             @RequestParam(defaultValue = "0") int users,
+                                             @RequestParam(defaultValue = "42") long seed,
+                                             @RequestParam(defaultValue = "1") int firstId) {
+        try {
+            return syntheticDataGenerator.generate(jobs, users, seed, firstId);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    /**
+     * Bulk import from a JSON array or, with Content-Type application/x-ndjson,
+     * one job per line. The body is streamed, not buffered. With upsert=true
+     * existing posts are overwritten instead of reported as failures.
+     */
+    @PostMapping(path = "/jobPost/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    public JobImportResult importJobs(HttpServletRequest request,
+                                      @RequestParam(defaultValue = "false") boolean upsert) throws IOException {
+        if (request.getContentType().startsWith(NDJSON)) {
+            return jobImportService.importNdjson(request.getInputStream(), upsert);
+        }
+        return jobImportService.importJsonArray(request.getInputStream(), upsert);
+    }
+
+    /**
+     * Changes after version {@code since}. With waitSeconds > 0 the request is
+     * held until a change arrives or the wait runs out (long poll).
+     */
+    @GetMapping("/jobPost/changes")
+    public DeferredResult<JobChangeFeed> getChanges(@RequestParam(defaultValue = "0") long since,
+                                                    @RequestParam(defaultValue = "500") int limit,
+                                                    @RequestParam(defaultValue = "0") int waitSeconds) {
+        int pageLimit = Math.max(1, Math.min(limit, MAX_CHANGES_LIMIT));
+        JobChangeFeed feed = changeLog.changesSince(since, pageLimit);
+        if (!feed.changes().isEmpty() || feed.resync() || waitSeconds <= 0) {
+            DeferredResult<JobChangeFeed> result = new DeferredResult<>();
+            result.setResult(feed);
+            return result;
+        }
+        return changeNotifier.await(since, pageLimit, Math.min(waitSeconds, MAX_WAIT_SECONDS) * 1000L);
+    }
+
+    /**
+     * The same feed as a server-sent event stream; each event's id is the
+     * version to resume from, so reconnects continue via Last-Event-ID.
+     */
+    @GetMapping(path = "/jobPost/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(defaultValue = "0") long since,
+                                    @RequestParam(defaultValue = "500") int limit,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeNotifier.subscribe(lastEventId != null ? lastEventId : since,
+                Math.max(1, Math.min(limit, MAX_CHANGES_LIMIT)));
+    }
+
     @GetMapping("/jobPost/search")
-    public List<JobPost> searchByKeyword(@RequestParam String keyword) {
-        return jobService.search(keyword);
+    public List<?> searchByKeyword(@RequestParam String keyword,
+                                   @RequestParam(defaultValue = "50") int limit,
+                                   @RequestParam(required = false) String fields) {
+        int searchLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        if (fields != null) {
+            List<String> selected = parseFields(fields);
+            return projectionService.findByIds(jobService.searchIds(keyword, searchLimit), selected);
+        }
+        return jobService.search(keyword, searchLimit);
+    }
+
+    /**
+     * Completions for a search box, from profiles and skills; never queries
+     * the database.
+     */
+    @GetMapping("/jobPost/suggest")
+    public List<JobSuggestion> suggest(@RequestParam(defaultValue = "") String prefix,
+                                       @RequestParam(defaultValue = "10") int limit) {
+        return jobService.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGEST_LIMIT)));
+    }
+
+    @GetMapping("/jobPost/filter")
+    public List<JobPost> filter(@RequestParam(required = false) List<String> allSkills,
+                                @RequestParam(required = false) List<String> anySkills,
+                                @RequestParam(required = false) Integer minExperience,
+                                @RequestParam(required = false) Integer maxExperience,
+                                @RequestParam(defaultValue = "100") int limit) {
+        return jobService.filter(allSkills, anySkills, minExperience, maxExperience,
+                Math.max(1, Math.min(limit, MAX_FILTER_LIMIT)));
     }
 
 }
@@ -1,21 +1,34 @@
 package com.arijit.job_management_api.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.arijit.job_management_api.model.RefreshRequest;
+import com.arijit.job_management_api.model.TokenResponse;
 import com.arijit.job_management_api.model.User;
 import com.arijit.job_management_api.service.JwtService;
+import com.arijit.job_management_api.service.JwtService.VerifiedToken;
+import com.arijit.job_management_api.service.PasswordHashingExecutor;
+import com.arijit.job_management_api.service.PasswordHashingExecutor.PasswordHashingRejectedException;
 import com.arijit.job_management_api.service.TokenBlacklistService;
+import com.arijit.job_management_api.service.TokenBlacklistService.BlacklistSize;
 import com.arijit.job_management_api.service.UserService;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 
 /**
@@ -36,31 +49,78 @@ public class UserController {
     @Autowired
     private TokenBlacklistService tokenBlacklistService;
 
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    // BCrypt runs on the hashing pool, the request thread is released while it waits
     @PostMapping("register")
-    public User register(@RequestBody User user) {
-        return service.saveUser(user);
+    public CompletableFuture<User> register(@RequestBody User user) {
+        return passwordHashingExecutor.submit(() -> service.saveUser(user));
     }
 
     @PostMapping("login")
-    public String login(@RequestBody User user) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword())
-        );
+    public CompletableFuture<TokenResponse> login(@RequestBody User user) {
+        return passwordHashingExecutor.submit(() -> {
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword())
+            );
 
-        if (authentication.isAuthenticated()) {
-            return jwtService.generateToken(user.getUsername());
-        } else {
-            throw new UsernameNotFoundException("Invalid user request");
+            if (authentication.isAuthenticated()) {
+                return issueTokens(user.getUsername());
+            } else {
+                throw new UsernameNotFoundException("Invalid user request");
+            }
+        });
+    }
+
+    /**
+     * Exchanges a refresh token for a new access/refresh pair without a
+     * password check. The presented refresh token is revoked, so each one
+     * can be used once; with the jdbc blacklist store this holds across
+     * nodes, since the shared table admits each token only once.
+     */
+    @PostMapping("token/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest body) {
+        String refreshToken = body.refreshToken();
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return ResponseEntity.badRequest().body("refreshToken is required");
+        }
+        if (tokenBlacklistService.isTokenBlacklisted(refreshToken)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token has been revoked. Please login again.");
         }
+
+        VerifiedToken verified;
+        try {
+            verified = jwtService.verifyToken(refreshToken);
+        } catch (JwtException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token");
+        }
+        if (!verified.refresh()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Not a refresh token");
+        }
+        // the user must still exist (cached lookup), and a concurrent refresh with the same token loses
+        userDetailsService.loadUserByUsername(verified.subject());
+        if (!tokenBlacklistService.blacklistToken(refreshToken)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token has been revoked. Please login again.");
+        }
+
+        return ResponseEntity.ok(issueTokens(verified.subject()));
     }
 
     @PostMapping("logout")
-    public ResponseEntity<String> logout(HttpServletRequest request) {
+    public ResponseEntity<String> logout(HttpServletRequest request,
+                                         @RequestBody(required = false) RefreshRequest body) {
         String authHeader = request.getHeader("Authorization");
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
             tokenBlacklistService.blacklistToken(token);
+            if (body != null && body.refreshToken() != null) {
+                tokenBlacklistService.blacklistToken(body.refreshToken());
+            }
             return ResponseEntity.ok("Logged out successfully");
         } else {
             return ResponseEntity.ok("No active session to logout");
@@ -68,7 +128,19 @@ public class UserController {
     }
 
     @GetMapping("/blacklistSize")
-    public int getBlacklistSize() {
+    public BlacklistSize getBlacklistSize() {
         return tokenBlacklistService.getBlacklistSize();
     }
+
+    private TokenResponse issueTokens(String username) {
+        return new TokenResponse(jwtService.generateToken(username), jwtService.generateRefreshToken(username),
+                "Bearer", jwtService.getAccessTokenValidity().toSeconds());
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<String> hashingRejected(PasswordHashingRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
 }
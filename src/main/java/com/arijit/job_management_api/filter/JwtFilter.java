@@ -2,18 +2,26 @@ package com.arijit.job_management_api.filter;
 
 import java.io.IOException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.arijit.job_management_api.service.JwtService;
+import com.arijit.job_management_api.service.JwtService.VerifiedToken;
 import com.arijit.job_management_api.service.TokenBlacklistService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,43 +38,73 @@ public class JwtFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static final Logger log = LoggerFactory.getLogger(JwtFilter.class);
+
+    // lets async dispatches (streamed responses) see the authentication
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
+    private Timer blacklistTimer;
+    private Timer verifyTimer;
+    private Timer loadUserTimer;
+    private Timer validateTimer;
+
+    @PostConstruct
+    void registerTimers() {
+        blacklistTimer = stageTimer("blacklist");
+        verifyTimer = stageTimer("verify");
+        loadUserTimer = stageTimer("load_user");
+        validateTimer = stageTimer("validate");
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("jwt.filter.stage")
+                .description("Time spent in each step of authenticating a bearer token")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String userName = null;
+        VerifiedToken verifiedToken = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);  // removing "Bearer " prefix
-            System.out.println("[FILTER] Checking token for blacklist: [" + token + "]");
+            String token = authHeader.substring(7);  // removing "Bearer " prefix
 
-            if (tokenBlacklistService.isTokenBlacklisted(token)) {
-                System.out.println("Token is blacklisted, denying access");
+            if (blacklistTimer.record(() -> tokenBlacklistService.isTokenBlacklisted(token))) {
+                log.debug("Rejected blacklisted token for {} {}", request.getMethod(), request.getRequestURI());
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.getWriter().write("Token is blacklisted. Please login again.");
                 return;  // Exit early, don't authenticate or continue filter chain
             }
 
-            userName = jwtService.extractUserName(token);  // Extract username from token
+            verifiedToken = verifyTimer.record(() -> jwtService.verifyToken(token));  // single parse, cached per token
+        }
+
+        if (verifiedToken != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(verifiedToken, request, response);
         }
 
-        if (userName != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        filterChain.doFilter(request, response);
+    }
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userName);
+    private void authenticate(VerifiedToken verifiedToken, HttpServletRequest request, HttpServletResponse response) {
+        UserDetails userDetails = loadUserTimer.record(() -> userDetailsService.loadUserByUsername(verifiedToken.subject()));
 
-            if (jwtService.validateToken(token, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        if (validateTimer.record(() -> jwtService.validateToken(verifiedToken, userDetails))) {
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            securityContextRepository.saveContext(SecurityContextHolder.getContext(), request, response);
         }
-
-        filterChain.doFilter(request, response);
     }
 }
@@ -0,0 +1,133 @@
+package com.arijit.job_management_api.filter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.arijit.job_management_api.service.RateLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control in the security chain, after JwtFilter and HTTP Basic
+ * have authenticated the caller. Each request takes a permit from the bucket
+ * of its endpoint class, keyed by the authenticated username or, before
+ * login, the client IP. Over budget it gets 429 with Retry-After and never
+ * reaches the controller. Basic requests with wrong credentials are refused
+ * with 401 before they get here.
+ *
+ * Budgets are rate-limit.{login,search,write,read}.rate (permits per second)
+ * and .burst. Behind a proxy, set server.forward-headers-strategy so the
+ * client IP is the caller's and not the proxy's.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    enum EndpointClass {
+        // BCrypt on every call
+        LOGIN(1, 20),
+        // keyword search and skill filters
+        SEARCH(10, 40),
+        WRITE(5, 20),
+        READ(50, 100);
+
+        private final double defaultRate;
+        private final int defaultBurst;
+
+        EndpointClass(double defaultRate, int defaultBurst) {
+            this.defaultRate = defaultRate;
+            this.defaultBurst = defaultBurst;
+        }
+    }
+
+    private final boolean enabled;
+    // indexed by EndpointClass ordinal
+    private final RateLimiter[] byUser;
+    private final RateLimiter[] byAddress;
+    private final Counter[] rejected;
+
+    public RateLimitFilter(Environment environment, MeterRegistry meterRegistry) {
+        enabled = environment.getProperty("rate-limit.enabled", Boolean.class, true);
+        EndpointClass[] classes = EndpointClass.values();
+        byUser = new RateLimiter[classes.length];
+        byAddress = new RateLimiter[classes.length];
+        rejected = new Counter[classes.length];
+        for (EndpointClass endpointClass : classes) {
+            String prefix = "rate-limit." + endpointClass.name().toLowerCase(Locale.ROOT);
+            double rate = environment.getProperty(prefix + ".rate", Double.class, endpointClass.defaultRate);
+            int burst = environment.getProperty(prefix + ".burst", Integer.class, endpointClass.defaultBurst);
+            byUser[endpointClass.ordinal()] = new RateLimiter(rate, burst);
+            byAddress[endpointClass.ordinal()] = new RateLimiter(rate, burst);
+            rejected[endpointClass.ordinal()] = Counter.builder("rate.limit.rejected")
+                    .description("Requests refused with 429 because the caller was over budget")
+                    .tag("class", endpointClass.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int endpointClass = classify(request).ordinal();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long waitNanos;
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            waitNanos = byUser[endpointClass].tryAcquire(authentication.getName(), System.nanoTime());
+        } else {
+            waitNanos = byAddress[endpointClass].tryAcquire(request.getRemoteAddr(), System.nanoTime());
+        }
+
+        if (waitNanos > 0) {
+            rejected[endpointClass].increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            // whole seconds, rounded up
+            response.setHeader("Retry-After", Long.toString((waitNanos + 999_999_999L) / 1_000_000_000L));
+            response.getWriter().write("Too many requests. Please retry later.");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (int i = 0; i < byUser.length; i++) {
+            byUser[i].evictIdle(now);
+            byAddress[i].evictIdle(now);
+        }
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals("/login") || path.equals("/register") || path.equals("/token/refresh")) {
+            return EndpointClass.LOGIN;
+        }
+        if (path.startsWith("/jobPost/search") || path.startsWith("/jobPost/filter")) {
+            return EndpointClass.SEARCH;
+        }
+        String method = request.getMethod();
+        if (!method.equals("GET") && !method.equals("HEAD")) {
+            return EndpointClass.WRITE;
+        }
+        return EndpointClass.READ;
+    }
+}
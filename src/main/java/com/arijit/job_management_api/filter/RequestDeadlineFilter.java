@@ -0,0 +1,251 @@
+package com.arijit.job_management_api.filter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.DisconnectedClientHelper;
+
+import com.arijit.job_management_api.service.RequestDeadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Gives each request a deadline and abandons its database work once the
+ * deadline passes. The budget comes from request-deadline.{search,all-jobs,
+ * import,default} for the endpoint, and a client may shorten it (never
+ * extend it) with an X-Request-Timeout header in milliseconds; zero means
+ * no deadline. Change feeds are never limited, since waiting is their job.
+ *
+ * Statements the request creates get the remaining time as their query
+ * timeout (RequestDeadlineConfig). When the deadline passes while the
+ * request is still running, a watchdog thread cancels its open statements;
+ * the failure that follows is answered with 504 if nothing was written yet.
+ * A request whose client disconnects is abandoned the same way. Counted in
+ * request.deadline.exceeded{endpoint}, request.client.disconnected{endpoint}
+ * and request.statements.cancelled{endpoint,reason}.
+ *
+ * The container only notices a disconnect when the response is written, so
+ * a query already running for a client that went away runs until it
+ * finishes or hits the deadline.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestDeadlineFilter.class);
+
+    static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    enum Endpoint {
+        // keyword search, skill filters and suggestions
+        SEARCH("2s"),
+        // the full listing, streamed page by page
+        ALL_JOBS("30s"),
+        // batch imports and synthetic data
+        IMPORT("0"),
+        DEFAULT("10s");
+
+        private final String defaultBudget;
+
+        Endpoint(String defaultBudget) {
+            this.defaultBudget = defaultBudget;
+        }
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    // indexed by Endpoint ordinal; 0 means no deadline
+    private final long[] budgetNanos;
+    private final Counter[] exceeded;
+    private final Counter[] disconnected;
+    private final ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "request-deadline-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RequestDeadlineFilter(Environment environment, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        enabled = environment.getProperty("request-deadline.enabled", Boolean.class, true);
+        Endpoint[] endpoints = Endpoint.values();
+        budgetNanos = new long[endpoints.length];
+        exceeded = new Counter[endpoints.length];
+        disconnected = new Counter[endpoints.length];
+        for (Endpoint endpoint : endpoints) {
+            String budget = environment.getProperty("request-deadline." + endpoint.tag(), endpoint.defaultBudget);
+            budgetNanos[endpoint.ordinal()] = DurationStyle.detectAndParse(budget).toNanos();
+            exceeded[endpoint.ordinal()] = Counter.builder("request.deadline.exceeded")
+                    .description("Requests still running when their deadline passed")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+            disconnected[endpoint.ordinal()] = Counter.builder("request.client.disconnected")
+                    .description("Requests abandoned because the client went away")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+        }
+        watchdog.setRemoveOnCancelPolicy(true);
+    }
+
+    @PreDestroy
+    void stopWatchdog() {
+        watchdog.shutdownNow();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || path(request).startsWith("/jobPost/changes");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Endpoint endpoint = classify(request);
+        long budget = budgetNanos[endpoint.ordinal()];
+        String header = request.getHeader(TIMEOUT_HEADER);
+        if (header != null) {
+            long requested;
+            try {
+                requested = Duration.ofMillis(Long.parseLong(header.trim())).toNanos();
+            } catch (NumberFormatException | ArithmeticException e) {
+                requested = -1;
+            }
+            if (requested <= 0) {
+                response.setStatus(HttpStatus.BAD_REQUEST.value());
+                response.getWriter().write(TIMEOUT_HEADER + " must be a positive number of milliseconds.");
+                return;
+            }
+            budget = budget == 0 ? requested : Math.min(budget, requested);
+        }
+        if (budget == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + budget);
+        ScheduledFuture<?> expiry = watchdog.schedule(() -> expire(deadline, endpoint), budget, TimeUnit.NANOSECONDS);
+        RequestDeadline previous = RequestDeadline.bind(deadline);
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } catch (IOException | ServletException | RuntimeException e) {
+            if (DisconnectedClientHelper.isClientDisconnectedException(e)) {
+                abandon(deadline, endpoint);
+                log.debug("Client went away during {} {}", request.getMethod(), request.getRequestURI());
+            } else if (deadline.isExpired() && !response.isCommitted()) {
+                log.debug("{} {} ran past its deadline", request.getMethod(), request.getRequestURI(), e);
+                response.reset();
+                response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
+                response.getWriter().write("Request deadline exceeded.");
+            } else {
+                throw e;
+            }
+        } finally {
+            RequestDeadline.bind(previous);
+            if (async) {
+                request.getAsyncContext().addListener(new DeadlineListener(deadline, endpoint, expiry));
+            } else {
+                expiry.cancel(false);
+            }
+        }
+    }
+
+    private void expire(RequestDeadline deadline, Endpoint endpoint) {
+        exceeded[endpoint.ordinal()].increment();
+        countCancelled(endpoint, "deadline", deadline.cancel());
+    }
+
+    private void abandon(RequestDeadline deadline, Endpoint endpoint) {
+        disconnected[endpoint.ordinal()].increment();
+        countCancelled(endpoint, "client_disconnect", deadline.cancel());
+    }
+
+    private void countCancelled(Endpoint endpoint, String reason, int statements) {
+        if (statements > 0) {
+            Counter.builder("request.statements.cancelled")
+                    .description("JDBC statements cancelled because their request was abandoned")
+                    .tag("endpoint", endpoint.tag())
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment(statements);
+        }
+    }
+
+    static Endpoint classify(HttpServletRequest request) {
+        String path = path(request);
+        if (path.startsWith("/jobPost/search") || path.startsWith("/jobPost/filter")
+                || path.startsWith("/jobPost/suggest")) {
+            return Endpoint.SEARCH;
+        }
+        if (path.equals("/allJobs")) {
+            return Endpoint.ALL_JOBS;
+        }
+        if (path.equals("/jobPost/batch") || path.equals("/load")) {
+            return Endpoint.IMPORT;
+        }
+        return Endpoint.DEFAULT;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    // keeps the deadline running until an async request (a streamed body) completes
+    private final class DeadlineListener implements AsyncListener {
+
+        private final RequestDeadline deadline;
+        private final Endpoint endpoint;
+        private final ScheduledFuture<?> expiry;
+
+        DeadlineListener(RequestDeadline deadline, Endpoint endpoint, ScheduledFuture<?> expiry) {
+            this.deadline = deadline;
+            this.endpoint = endpoint;
+            this.expiry = expiry;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            expiry.cancel(false);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (expiry.cancel(false) && DisconnectedClientHelper.isClientDisconnectedException(event.getThrowable())) {
+                abandon(deadline, endpoint);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
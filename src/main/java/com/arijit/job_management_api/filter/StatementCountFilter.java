@@ -0,0 +1,83 @@
+package com.arijit.job_management_api.filter;
+
+import java.io.IOException;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the SQL statements Hibernate prepares while a request is handled
+ * (registered as Hibernate's StatementInspector) and records them per route
+ * in hibernate.statements.per.request. Requests over the warning threshold
+ * are logged, since a count that grows with the result size is usually an
+ * N+1 query.
+ *
+ * Counting is per thread, so statements run after the request thread has
+ * returned (streamed bodies, long polls) are not included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatementCountFilter extends OncePerRequestFilter implements StatementInspector {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementCountFilter.class);
+
+    private static final ThreadLocal<int[]> statementCount = new ThreadLocal<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${metrics.statements-per-request.warn-threshold:25}")
+    private int warnThreshold;
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = statementCount.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int[] count = new int[1];
+        statementCount.set(count);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementCount.remove();
+            record(request, count[0]);
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("hibernate.statements.per.request")
+                .description("SQL statements prepared by Hibernate while handling one request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+        if (statements > warnThreshold) {
+            log.warn("{} {} ran {} SQL statements", request.getMethod(), request.getRequestURI(), statements);
+        }
+    }
+}
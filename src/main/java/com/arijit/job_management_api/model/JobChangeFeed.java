@@ -0,0 +1,15 @@
+package com.arijit.job_management_api.model;
+
+import java.util.List;
+
+/**
+ * Job changes after a client's version, one entry per post with its latest
+ * state; {@code job} is null for a deleted post. Pass {@code nextSince} as
+ * {@code since} on the next call. When {@code resync} is true the changes
+ * the client needs are gone: reload /allJobs and continue from nextSince.
+ */
+public record JobChangeFeed(List<Entry> changes, long nextSince, boolean resync) {
+
+    public record Entry(long version, int postId, JobChange.Type type, JobPost job) {
+    }
+}
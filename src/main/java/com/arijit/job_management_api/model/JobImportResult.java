@@ -0,0 +1,33 @@
+package com.arijit.job_management_api.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class JobImportResult {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private int received;
+    private int imported;
+    private int failed;
+    private long elapsedMillis;
+    private long recordsPerSecond;
+    private List<RecordError> errors = new ArrayList<>();
+
+    /**
+     * A record that could not be imported. {@code record} is the 1-based
+     * position in the request (the line number for NDJSON).
+     */
+    public record RecordError(int record, Integer postId, String message) {
+    }
+
+    public void addError(int record, Integer postId, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RecordError(record, postId, message));
+        }
+    }
+}
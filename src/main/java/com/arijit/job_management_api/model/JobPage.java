@@ -0,0 +1,15 @@
+package com.arijit.job_management_api.model;
+
+import java.util.List;
+
+/**
+ * One page of jobs, or projected job rows, in postId order. Pass {@code nextAfter} as {@code after}
+ * to get the next page; it is null on the last page.
+ */
+public record JobPage<T>(List<T> items, Integer nextAfter) {
+
+    /**
+     * The {@code after} of the first page. Ids are assigned by clients and may be zero or negative.
+     */
+    public static final int START = Integer.MIN_VALUE;
+}
@@ -0,0 +1,8 @@
+package com.arijit.job_management_api.model;
+
+/**
+ * A completion for a partly typed profile or skill, and how many job posts
+ * carry it.
+ */
+public record JobSuggestion(String text, int count) {
+}
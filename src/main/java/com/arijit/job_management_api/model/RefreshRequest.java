@@ -0,0 +1,4 @@
+package com.arijit.job_management_api.model;
+
+public record RefreshRequest(String refreshToken) {
+}
@@ -0,0 +1,29 @@
+package com.arijit.job_management_api.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(columnList = "expiresAt"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"digestHi", "digestLo"}))
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long version;
+    private long digestHi;
+    private long digestLo;
+    private long expiresAt;
+    private long revokedAt;
+}
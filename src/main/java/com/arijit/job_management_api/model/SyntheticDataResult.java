@@ -0,0 +1,9 @@
+package com.arijit.job_management_api.model;
+
+/**
+ * What a synthetic data run wrote. The same seed and sizes always produce
+ * the same rows.
+ */
+public record SyntheticDataResult(long seed, int jobs, int failed, int users, long elapsedMillis,
+                                  long recordsPerSecond) {
+}
@@ -0,0 +1,29 @@
+package com.arijit.job_management_api.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.arijit.job_management_api.model.JobChange;
+
+public interface JobChangeRepository extends JpaRepository<JobChange, Long> {
+
+    List<JobChange> findByVersionGreaterThanOrderByVersionAsc(long version, Limit limit);
+
+    @Query("SELECT COALESCE(MIN(c.version), 0) FROM JobChange c")
+    long findMinVersion();
+
+    @Query("SELECT COALESCE(MAX(c.version), 0) FROM JobChange c")
+    long findMaxVersion();
+
+    @Modifying
+    @Transactional
+    // the newest row is kept so the latest version survives a quiet retention period
+    @Query("DELETE FROM JobChange c WHERE c.changedAt < :cutoff "
+            + "AND c.version < (SELECT MAX(m.version) FROM JobChange m)")
+    int deleteOlderThan(long cutoff);
+}
@@ -1,7 +1,10 @@
 package com.arijit.job_management_api.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -13,4 +16,22 @@ public interface JobRepository extends JpaRepository<JobPost, Integer> {
             + "LOWER(j.postProfile) LIKE LOWER(concat('%', :keyword, '%')) OR "
             + "LOWER(j.postDesc) LIKE LOWER(concat('%', :keyword, '%'))")
     List<JobPost> searchJob(String keyword);
+
+    @Query("SELECT j.postId FROM JobPost j WHERE "
+            + "LOWER(j.postProfile) LIKE LOWER(concat('%', :keyword, '%')) OR "
+            + "LOWER(j.postDesc) LIKE LOWER(concat('%', :keyword, '%')) "
+            + "ORDER BY j.postId")
+    List<Integer> searchJobIds(String keyword, Limit limit);
+
+    @Query("SELECT DISTINCT j FROM JobPost j LEFT JOIN FETCH j.postSkills")
+    List<JobPost> findAllWithSkills();
+
+    @Query("SELECT j FROM JobPost j LEFT JOIN FETCH j.postSkills WHERE j.postId = :id")
+    Optional<JobPost> findWithSkillsById(int id);
+
+    @Query("SELECT DISTINCT j FROM JobPost j LEFT JOIN FETCH j.postSkills WHERE j.postId IN :ids")
+    List<JobPost> findAllWithSkillsByIdIn(Collection<Integer> ids);
+
+    @Query("SELECT j.postId FROM JobPost j WHERE j.postId > :after ORDER BY j.postId")
+    List<Integer> findIdsAfter(int after, Limit limit);
 }
@@ -0,0 +1,66 @@
+package com.arijit.job_management_api.service;
+
+import java.sql.Timestamp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wall-clock time shared by every node that uses the same database, so a
+ * timestamp written on one node can be compared with "now" on another
+ * regardless of clock skew between them.
+ *
+ * The time is taken when the statement runs, not when the surrounding
+ * transaction began: CURRENT_TIMESTAMP is frozen at transaction start in
+ * both PostgreSQL and H2, which would date a write made at the end of a long
+ * transaction by its beginning. PostgreSQL is asked for clock_timestamp().
+ * Embedded H2 lives on this host, so its clock is the JVM's. Other databases
+ * fall back to CURRENT_TIMESTAMP.
+ */
+@Component
+public class DatabaseClock {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseClock.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // null reads the local clock
+    private volatile String query;
+    private volatile boolean resolved;
+
+    public long millis() {
+        if (!resolved) {
+            resolve();
+        }
+        String current = query;
+        if (current == null) {
+            return System.currentTimeMillis();
+        }
+        return jdbcTemplate.queryForObject(current, Timestamp.class).getTime();
+    }
+
+    private synchronized void resolve() {
+        if (resolved) {
+            return;
+        }
+        String[] database = jdbcTemplate.execute((ConnectionCallback<String[]>) connection -> new String[] {
+                connection.getMetaData().getDatabaseProductName(), connection.getMetaData().getURL()});
+        String product = database[0];
+        String url = database[1];
+        if ("PostgreSQL".equals(product)) {
+            query = "SELECT clock_timestamp()";
+        } else if ("H2".equals(product) && !url.startsWith("jdbc:h2:tcp:") && !url.startsWith("jdbc:h2:ssl:")) {
+            query = null;
+        } else {
+            log.warn("No statement-time clock known for {}, using CURRENT_TIMESTAMP; "
+                    + "writes in long transactions are dated by their start", product);
+            query = "SELECT CURRENT_TIMESTAMP";
+        }
+        resolved = true;
+    }
+}
@@ -0,0 +1,241 @@
+package com.arijit.job_management_api.service;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.arijit.job_management_api.model.RevokedToken;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Blacklist store kept in an append-only log next to a compacted snapshot.
+ *
+ * On startup the snapshot is loaded and the log replayed on top of it. Purging
+ * expired entries rewrites the snapshot and truncates the log. The files are
+ * owned by one process, so this gives restart durability for a single node;
+ * use the jdbc store to share revocations between nodes.
+ */
+@Service
+@ConditionalOnProperty(name = "blacklist.store", havingValue = "file")
+public class FileTokenBlacklistStore implements TokenBlacklistStore {
+
+    private static final Logger log = LoggerFactory.getLogger(FileTokenBlacklistStore.class);
+
+    private static final int RECORD_SIZE = 5 * Long.BYTES;
+
+    private record Digest(long hi, long lo) {
+
+        static Digest of(RevokedToken record) {
+            return new Digest(record.getDigestHi(), record.getDigestLo());
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Path snapshotFile;
+    private final Path logFile;
+    private final boolean fsync;
+
+    // live records in version order, and their digests for duplicate checks
+    private final List<RevokedToken> records = new ArrayList<>();
+    private final Set<Digest> digests = new HashSet<>();
+    private final FileChannel channel;
+    private long lastVersion;
+
+    public FileTokenBlacklistStore(@Value("${blacklist.file.dir:data/blacklist}") String directory,
+                                   @Value("${blacklist.file.fsync:true}") boolean fsync) throws IOException {
+        Path dir = Paths.get(directory);
+        Files.createDirectories(dir);
+        this.snapshotFile = dir.resolve("snapshot.bin");
+        this.logFile = dir.resolve("revocations.log");
+        this.fsync = fsync;
+
+        readRecords(snapshotFile, true);
+        long validLogBytes = readRecords(logFile, false);
+
+        channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        // drop a record torn by a crash mid-write
+        channel.truncate(validLogBytes);
+        channel.position(validLogBytes);
+        log.info("Loaded {} revoked tokens from {}", records.size(), dir.toAbsolutePath());
+    }
+
+    @Override
+    public long append(long digestHi, long digestLo, long expiresAt) {
+        lock.lock();
+        try {
+            if (digests.contains(new Digest(digestHi, digestLo))) {
+                return ALREADY_REVOKED;
+            }
+            RevokedToken record = new RevokedToken(lastVersion + 1, digestHi, digestLo, expiresAt, System.currentTimeMillis());
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+            write(buffer, record);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            records.add(record);
+            digests.add(Digest.of(record));
+            lastVersion = record.getVersion();
+            return lastVersion;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + logFile, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<RevokedToken> fetchSince(long afterVersion, int limit) {
+        lock.lock();
+        try {
+            int from = firstIndexAfter(afterVersion);
+            return new ArrayList<>(records.subList(from, Math.min(records.size(), from + limit)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // one process owns the files, so its clock is the only one
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long size() {
+        lock.lock();
+        try {
+            return records.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int purgeExpired(long now) {
+        lock.lock();
+        try {
+            int before = records.size();
+            records.removeIf(record -> {
+                if (record.getExpiresAt() > now) {
+                    return false;
+                }
+                digests.remove(Digest.of(record));
+                return true;
+            });
+            int purged = before - records.size();
+            if (purged > 0) {
+                writeSnapshot();
+            }
+            return purged;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compact " + snapshotFile, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void writeSnapshot() throws IOException {
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 1024);
+            // header keeps versions increasing even when every record has been purged
+            buffer.putLong(lastVersion);
+            for (RevokedToken record : records) {
+                if (buffer.remaining() < RECORD_SIZE) {
+                    flush(out, buffer);
+                }
+                write(buffer, record);
+            }
+            flush(out, buffer);
+            out.force(true);
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // records still in the log are now in the snapshot; replay skips them by version if we crash here
+        channel.truncate(0);
+        channel.position(0);
+    }
+
+    private long readRecords(Path file, boolean snapshot) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        long validBytes = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (snapshot) {
+                lastVersion = in.readLong();
+            }
+            while (true) {
+                RevokedToken record = new RevokedToken(in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong());
+                validBytes += RECORD_SIZE;
+                if (snapshot || record.getVersion() > lastVersion) {
+                    records.add(record);
+                    digests.add(Digest.of(record));
+                    lastVersion = Math.max(lastVersion, record.getVersion());
+                }
+            }
+        } catch (EOFException e) {
+            return validBytes;
+        }
+    }
+
+    private int firstIndexAfter(long version) {
+        int low = 0;
+        int high = records.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (records.get(mid).getVersion() <= version) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void write(ByteBuffer buffer, RevokedToken record) {
+        buffer.putLong(record.getVersion())
+                .putLong(record.getDigestHi())
+                .putLong(record.getDigestLo())
+                .putLong(record.getExpiresAt())
+                .putLong(record.getRevokedAt());
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+}
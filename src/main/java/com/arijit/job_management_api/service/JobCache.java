@@ -0,0 +1,82 @@
+package com.arijit.job_management_api.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.repository.JobRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Read-through cache of job posts by id, skills included. Entries are
+ * detached copies, so serializing one never touches the database. As a
+ * JobIndex it sees every write JobService and the bulk importer make.
+ */
+@Component
+public class JobCache implements JobIndex {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Cache<Integer, JobPost> jobs;
+
+    public JobCache(@Value("${job-cache.max-size:10000}") long maxSize,
+                    @Value("${job-cache.ttl:10m}") Duration ttl) {
+        jobs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, jobs, "jobPosts");
+    }
+
+    /**
+     * Returns the cached post, loading it on a miss. Concurrent misses for the
+     * same id share one query. Missing ids are not cached. The returned
+     * instance is shared and must not be modified.
+     */
+    public Optional<JobPost> get(int postId) {
+        return Optional.ofNullable(jobs.get(postId,
+                id -> jobRepository.findWithSkillsById(id).map(JobCache::detachedCopy).orElse(null)));
+    }
+
+    @Override
+    public void rebuild(Collection<JobPost> all) {
+        // filled on demand rather than preloaded
+        jobs.invalidateAll();
+    }
+
+    @Override
+    public void index(JobPost job) {
+        jobs.put(job.getPostId(), detachedCopy(job));
+    }
+
+    @Override
+    public void remove(int postId) {
+        jobs.invalidate(postId);
+    }
+
+    private static JobPost detachedCopy(JobPost job) {
+        List<String> skills = job.getPostSkills() == null ? null : new ArrayList<>(job.getPostSkills());
+        return new JobPost(job.getPostId(), job.getPostProfile(), job.getPostDesc(), job.getReqExperience(), skills);
+    }
+}
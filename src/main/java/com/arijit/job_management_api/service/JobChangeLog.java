@@ -0,0 +1,139 @@
+package com.arijit.job_management_api.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.arijit.job_management_api.model.JobChange;
+import com.arijit.job_management_api.model.JobChangeFeed;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.repository.JobChangeRepository;
+import com.arijit.job_management_api.repository.JobRepository;
+
+/**
+ * Versioned log of job inserts, updates and deletes.
+ *
+ * Writers call {@link #record} inside the transaction that changes the job,
+ * so a change is visible in the log exactly when it is visible in the table.
+ * Rows are inserted with plain JDBC batches because Hibernate cannot batch
+ * IDENTITY inserts, which would slow the bulk importer down.
+ *
+ * Versions are assigned at insert but become visible at commit, so a reader
+ * can see a gap that a slower transaction fills in later. A gap is waited
+ * for until the change after it is older than job-changes.gap-settle, by the
+ * DatabaseClock so that skew between nodes does not matter. A transaction
+ * that commits later than that is skipped by clients already past it, so the
+ * setting must exceed the longest job write transaction.
+ */
+@Service
+public class JobChangeLog {
+
+    private static final Logger log = LoggerFactory.getLogger(JobChangeLog.class);
+
+    private static final String INSERT = "INSERT INTO job_changes (post_id, change_type, changed_at) VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseClock databaseClock;
+
+    @Autowired
+    private JobChangeRepository changeRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final Duration retention;
+    // a version gap younger than this may still be an uncommitted insert
+    private final Duration gapSettle;
+
+    public JobChangeLog(@Value("${job-changes.retention:7d}") Duration retention,
+                        @Value("${job-changes.gap-settle:5s}") Duration gapSettle) {
+        this.retention = retention;
+        this.gapSettle = gapSettle;
+    }
+
+    public void record(int postId, JobChange.Type type) {
+        recordAll(List.of(postId), type);
+    }
+
+    public void recordAll(Collection<Integer> postIds, JobChange.Type type) {
+        long now = databaseClock.millis();
+        jdbcTemplate.batchUpdate(INSERT, postIds, postIds.size(), (statement, postId) -> {
+            statement.setInt(1, postId);
+            statement.setString(2, type.name());
+            statement.setLong(3, now);
+        });
+    }
+
+    public long latestVersion() {
+        return changeRepository.findMaxVersion();
+    }
+
+    /**
+     * Changes after {@code since}, compacted to the latest state of each post.
+     * Stops before a version gap that may still fill in, so a client that
+     * follows nextSince never skips a change.
+     */
+    public JobChangeFeed changesSince(long since, int limit) {
+        long latest = changeRepository.findMaxVersion();
+        if (since > latest || since < changeRepository.findMinVersion() - 1) {
+            return new JobChangeFeed(List.of(), latest, true);
+        }
+
+        long settled = databaseClock.millis() - gapSettle.toMillis();
+        long cursor = since;
+        Map<Integer, JobChange> latestByPost = new LinkedHashMap<>();
+        for (JobChange change : changeRepository.findByVersionGreaterThanOrderByVersionAsc(since, Limit.of(limit))) {
+            if (change.getVersion() != cursor + 1 && change.getChangedAt() > settled) {
+                break;
+            }
+            latestByPost.put(change.getPostId(), change);
+            cursor = change.getVersion();
+        }
+        if (latestByPost.isEmpty()) {
+            return new JobChangeFeed(List.of(), cursor, false);
+        }
+
+        List<Integer> upserted = latestByPost.values().stream()
+                .filter(change -> change.getChangeType() == JobChange.Type.UPSERT)
+                .map(JobChange::getPostId)
+                .toList();
+        Map<Integer, JobPost> jobs = upserted.isEmpty() ? Map.of() : jobRepository.findAllWithSkillsByIdIn(upserted).stream()
+                .collect(Collectors.toMap(JobPost::getPostId, Function.identity()));
+
+        List<JobChangeFeed.Entry> entries = new ArrayList<>(latestByPost.size());
+        for (JobChange change : latestByPost.values()) {
+            JobPost job = jobs.get(change.getPostId());
+            // deleted by a change past this page; that change will follow as a delete
+            JobChange.Type type = job == null ? JobChange.Type.DELETE : change.getChangeType();
+            entries.add(new JobChangeFeed.Entry(change.getVersion(), change.getPostId(), type, job));
+        }
+        entries.sort(Comparator.comparingLong(JobChangeFeed.Entry::version));
+        return new JobChangeFeed(entries, cursor, false);
+    }
+
+    @Scheduled(fixedDelayString = "${job-changes.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = changeRepository.deleteOlderThan(databaseClock.millis() - retention.toMillis());
+        if (purged > 0) {
+            log.info("Purged {} job changes older than {}", purged, retention);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.arijit.job_management_api.service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.arijit.job_management_api.model.JobChangeFeed;
+import com.arijit.job_management_api.model.JobPost;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes the change feed to long-poll requests and SSE subscribers.
+ *
+ * Local writes wake it through the JobIndex hooks, after their transaction
+ * has committed; writes made by other nodes are picked up by polling the
+ * latest version. All delivery happens on one dispatcher thread, and
+ * subscribers waiting on the same version share one feed query per round.
+ */
+@Component
+public class JobChangeNotifier implements JobIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(JobChangeNotifier.class);
+
+    private record Waiter(long since, int limit, DeferredResult<JobChangeFeed> result) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final int limit;
+        private long since;
+
+        private Subscriber(SseEmitter emitter, long since, int limit) {
+            this.emitter = emitter;
+            this.since = since;
+            this.limit = limit;
+        }
+    }
+
+    private record FeedKey(long since, int limit) {
+    }
+
+    @Autowired
+    private JobChangeLog changeLog;
+
+    private final long sseTimeoutMillis;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final Queue<Subscriber> subscribers = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-change-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile long lastSeenVersion;
+
+    public JobChangeNotifier(@Value("${job-changes.sse-timeout-ms:1800000}") long sseTimeoutMillis) {
+        this.sseTimeoutMillis = sseTimeoutMillis;
+    }
+
+    /**
+     * Completes with the next non-empty feed after {@code since}, or with an
+     * empty one when {@code timeoutMillis} passes.
+     */
+    public DeferredResult<JobChangeFeed> await(long since, int limit, long timeoutMillis) {
+        DeferredResult<JobChangeFeed> result = new DeferredResult<>(timeoutMillis);
+        Waiter waiter = new Waiter(since, limit, result);
+        result.onTimeout(() -> {
+            waiters.remove(waiter);
+            result.setResult(new JobChangeFeed(List.of(), since, false));
+        });
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // a change may have landed between the caller's empty read and registering
+        signal();
+        return result;
+    }
+
+    public SseEmitter subscribe(long since, int limit) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, since, limit);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        signal();
+        return emitter;
+    }
+
+    @Override
+    public void rebuild(Collection<JobPost> jobs) {
+        signal();
+    }
+
+    @Override
+    public void index(JobPost job) {
+        signal();
+    }
+
+    @Override
+    public void remove(int postId) {
+        signal();
+    }
+
+    @Scheduled(fixedDelayString = "${job-changes.poll-interval-ms:1000}")
+    public void pollForRemoteChanges() {
+        if (waiters.isEmpty() && subscribers.isEmpty()) {
+            return;
+        }
+        long latest = changeLog.latestVersion();
+        if (latest != lastSeenVersion) {
+            lastSeenVersion = latest;
+            signal();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void signal() {
+        if (dispatchPending.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        dispatchPending.set(false);
+        if (waiters.isEmpty() && subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            deliver();
+        } catch (RuntimeException e) {
+            // the next write or poll retries
+            log.warn("Could not deliver job changes", e);
+        }
+    }
+
+    private void deliver() {
+        Map<FeedKey, JobChangeFeed> feeds = new HashMap<>();
+        for (Waiter waiter : waiters) {
+            JobChangeFeed feed = feeds.computeIfAbsent(new FeedKey(waiter.since(), waiter.limit()),
+                    key -> changeLog.changesSince(key.since(), key.limit()));
+            if (!feed.changes().isEmpty() || feed.resync()) {
+                waiters.remove(waiter);
+                waiter.result().setResult(feed);
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            JobChangeFeed feed = feeds.computeIfAbsent(new FeedKey(subscriber.since, subscriber.limit),
+                    key -> changeLog.changesSince(key.since(), key.limit()));
+            if (feed.changes().isEmpty() && !feed.resync()) {
+                continue;
+            }
+            try {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name("changes")
+                        .id(Long.toString(feed.nextSince()))
+                        .data(feed));
+                subscriber.since = feed.nextSince();
+                // the feed may have been cut at the page limit; an empty round ends it
+                signal();
+            } catch (IOException | IllegalStateException e) {
+                // client went away
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+            }
+        }
+    }
+}
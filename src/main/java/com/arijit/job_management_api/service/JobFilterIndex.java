@@ -0,0 +1,223 @@
+package com.arijit.job_management_api.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import com.arijit.job_management_api.model.JobPost;
+
+/**
+ * Skill and experience filter backed by compressed posting bitmaps.
+ *
+ * Every skill (case-insensitive) maps to a bitmap of post ids, and experience
+ * values are kept in a sorted map of bitmaps so a range is the union of a
+ * sub-map. A filter is then a handful of bitmap AND/OR operations.
+ *
+ * Bitmaps iterate their values as unsigned ints, so post ids are stored with
+ * the sign bit flipped; negative ids then come before positive ones, as they
+ * do everywhere else.
+ */
+@Component
+public class JobFilterIndex implements JobIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, RoaringBitmap> skillPostings = new HashMap<>();
+    private final NavigableMap<Integer, RoaringBitmap> experiencePostings = new TreeMap<>();
+    private final RoaringBitmap allPosts = new RoaringBitmap();
+
+    // postId -> what was indexed for it, so a post can be removed without rescanning
+    private final Map<Integer, Facets> postFacets = new HashMap<>();
+
+    private volatile boolean ready;
+
+    private record Facets(Set<String> skills, Integer experience) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<JobPost> jobs) {
+        lock.writeLock().lock();
+        try {
+            skillPostings.clear();
+            experiencePostings.clear();
+            allPosts.clear();
+            postFacets.clear();
+            for (JobPost job : jobs) {
+                addPostings(job);
+            }
+            skillPostings.values().forEach(RoaringBitmap::runOptimize);
+            experiencePostings.values().forEach(RoaringBitmap::runOptimize);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(JobPost job) {
+        lock.writeLock().lock();
+        try {
+            removePostings(job.getPostId());
+            addPostings(job);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(int postId) {
+        lock.writeLock().lock();
+        try {
+            removePostings(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matching post ids in ascending order. Empty or
+     * null criteria are not applied.
+     */
+    public List<Integer> filter(Collection<String> allSkills, Collection<String> anySkills,
+                                Integer minExperience, Integer maxExperience, int limit) {
+        RoaringBitmap result;
+        lock.readLock().lock();
+        try {
+            result = allPosts.clone();
+            if (allSkills != null && !allSkills.isEmpty()) {
+                for (String skill : allSkills) {
+                    RoaringBitmap posts = skillPostings.get(normalize(skill));
+                    if (posts == null) {
+                        return List.of();
+                    }
+                    result.and(posts);
+                }
+            }
+            if (anySkills != null && !anySkills.isEmpty()) {
+                List<RoaringBitmap> matches = new ArrayList<>();
+                for (String skill : anySkills) {
+                    RoaringBitmap posts = skillPostings.get(normalize(skill));
+                    if (posts != null) {
+                        matches.add(posts);
+                    }
+                }
+                result.and(FastAggregation.or(matches.iterator()));
+            }
+            if (minExperience != null || maxExperience != null) {
+                int from = minExperience != null ? minExperience : Integer.MIN_VALUE;
+                int to = maxExperience != null ? maxExperience : Integer.MAX_VALUE;
+                if (from > to) {
+                    return List.of();
+                }
+                result.and(FastAggregation.or(experiencePostings.subMap(from, true, to, true).values().iterator()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Integer> ids = new ArrayList<>(Math.min(limit, result.getCardinality()));
+        IntIterator it = result.getIntIterator();
+        while (it.hasNext() && ids.size() < limit) {
+            ids.add(it.next() ^ Integer.MIN_VALUE);
+        }
+        return ids;
+    }
+
+    static boolean matches(JobPost job, Collection<String> allSkills, Collection<String> anySkills,
+                           Integer minExperience, Integer maxExperience) {
+        Set<String> skills = normalizedSkills(job);
+        if (allSkills != null && !allSkills.isEmpty()
+                && !allSkills.stream().map(JobFilterIndex::normalize).allMatch(skills::contains)) {
+            return false;
+        }
+        if (anySkills != null && !anySkills.isEmpty()
+                && anySkills.stream().map(JobFilterIndex::normalize).noneMatch(skills::contains)) {
+            return false;
+        }
+        if (minExperience != null || maxExperience != null) {
+            Integer experience = job.getReqExperience();
+            return experience != null
+                    && (minExperience == null || experience >= minExperience)
+                    && (maxExperience == null || experience <= maxExperience);
+        }
+        return true;
+    }
+
+    private void addPostings(JobPost job) {
+        int postId = job.getPostId();
+        int key = key(postId);
+        Set<String> skills = normalizedSkills(job);
+        for (String skill : skills) {
+            skillPostings.computeIfAbsent(skill, name -> new RoaringBitmap()).add(key);
+        }
+        if (job.getReqExperience() != null) {
+            experiencePostings.computeIfAbsent(job.getReqExperience(), value -> new RoaringBitmap()).add(key);
+        }
+        allPosts.add(key);
+        postFacets.put(postId, new Facets(skills, job.getReqExperience()));
+    }
+
+    private void removePostings(int postId) {
+        Facets facets = postFacets.remove(postId);
+        if (facets == null) {
+            return;
+        }
+        int key = key(postId);
+        for (String skill : facets.skills()) {
+            removeFrom(skillPostings, skill, key);
+        }
+        if (facets.experience() != null) {
+            removeFrom(experiencePostings, facets.experience(), key);
+        }
+        allPosts.remove(key);
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> postings, K posting, int key) {
+        RoaringBitmap posts = postings.get(posting);
+        if (posts != null) {
+            posts.remove(key);
+            if (posts.isEmpty()) {
+                postings.remove(posting);
+            }
+        }
+    }
+
+    // bitmap value for a post id; flipping the sign bit makes unsigned order match signed order
+    private static int key(int postId) {
+        return postId ^ Integer.MIN_VALUE;
+    }
+
+    private static Set<String> normalizedSkills(JobPost job) {
+        Set<String> skills = new HashSet<>();
+        if (job.getPostSkills() != null) {
+            for (String skill : job.getPostSkills()) {
+                if (skill != null && !skill.isBlank()) {
+                    skills.add(normalize(skill));
+                }
+            }
+        }
+        return skills;
+    }
+
+    private static String normalize(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT);
+    }
+}
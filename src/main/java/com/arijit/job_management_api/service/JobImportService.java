@@ -0,0 +1,234 @@
+package com.arijit.job_management_api.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.arijit.job_management_api.model.JobChange;
+import com.arijit.job_management_api.model.JobImportResult;
+import com.arijit.job_management_api.model.JobPost;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Bulk job ingestion.
+ *
+ * Records are read one at a time from the request stream and written in
+ * chunks, one transaction per chunk. Plain imports use persist, which skips
+ * the select-before-insert that save() does for an assigned id, and let
+ * Hibernate batch the inserts; the persistence context is cleared after each
+ * chunk so memory stays flat for large imports. If a chunk fails, its records
+ * are retried one by one so only the bad ones are reported.
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobImportService.class);
+
+    private record ImportRecord(int position, JobPost job) {
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private List<JobIndex> jobIndexes;
+
+    @Autowired
+    private JobResponseCache responseCache;
+
+    @Autowired
+    private JobChangeLog changeLog;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public JobImportService(PlatformTransactionManager transactionManager,
+                            @Value("${jobs.import.chunk-size:500}") int chunkSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports newline-delimited JSON, one job per line. Blank lines are
+     * skipped; errors are reported by line number.
+     */
+    public JobImportResult importNdjson(InputStream in, boolean upsert) throws IOException {
+        long start = System.nanoTime();
+        JobImportResult result = new JobImportResult();
+        List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            result.setReceived(result.getReceived() + 1);
+            try {
+                accept(chunk, new ImportRecord(lineNumber, bind(objectMapper.readTree(line))), upsert, result);
+            } catch (JsonProcessingException e) {
+                result.addError(lineNumber, null, e.getOriginalMessage());
+            }
+        }
+        return finish(chunk, upsert, result, start);
+    }
+
+    /**
+     * Imports a JSON array of jobs without reading the whole array into
+     * memory. A syntax error ends the import; a record that is well-formed
+     * but does not bind to a job is reported and skipped.
+     */
+    public JobImportResult importJsonArray(InputStream in, boolean upsert) throws IOException {
+        long start = System.nanoTime();
+        JobImportResult result = new JobImportResult();
+        List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                result.addError(0, null, "Expected a JSON array of job posts");
+                return finish(chunk, upsert, result, start);
+            }
+            int position = 0;
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    position++;
+                    result.setReceived(result.getReceived() + 1);
+                    JsonNode node = parser.readValueAsTree();
+                    try {
+                        accept(chunk, new ImportRecord(position, bind(node)), upsert, result);
+                    } catch (JsonProcessingException e) {
+                        result.addError(position, null, e.getOriginalMessage());
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                result.addError(position, null, "Malformed JSON, import stopped: " + e.getOriginalMessage());
+            }
+        }
+        return finish(chunk, upsert, result, start);
+    }
+
+    public JobImportResult importJobs(Iterator<JobPost> jobs, boolean upsert) {
+        long start = System.nanoTime();
+        JobImportResult result = new JobImportResult();
+        List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+        int position = 0;
+        while (jobs.hasNext()) {
+            position++;
+            result.setReceived(result.getReceived() + 1);
+            accept(chunk, new ImportRecord(position, jobs.next()), upsert, result);
+        }
+        return finish(chunk, upsert, result, start);
+    }
+
+    // postId binds to an int, so a missing id would otherwise import as post 0
+    private JobPost bind(JsonNode node) throws JsonProcessingException {
+        return node.hasNonNull("postId") ? objectMapper.treeToValue(node, JobPost.class) : null;
+    }
+
+    private void accept(List<ImportRecord> chunk, ImportRecord record, boolean upsert, JobImportResult result) {
+        if (record.job() == null) {
+            result.addError(record.position(), null, "postId is required");
+            return;
+        }
+        chunk.add(record);
+        if (chunk.size() >= chunkSize) {
+            writeChunk(chunk, upsert, result);
+            chunk.clear();
+        }
+    }
+
+    private JobImportResult finish(List<ImportRecord> chunk, boolean upsert, JobImportResult result, long start) {
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, upsert, result);
+            chunk.clear();
+        }
+        // write failures surface when their chunk is flushed, after later parse errors
+        result.getErrors().sort(Comparator.comparingInt(JobImportResult.RecordError::record));
+        long elapsedNanos = System.nanoTime() - start;
+        result.setElapsedMillis(elapsedNanos / 1_000_000);
+        result.setRecordsPerSecond(elapsedNanos == 0 ? 0 : result.getImported() * 1_000_000_000L / elapsedNanos);
+        log.info("Imported {} of {} job posts in {} ms", result.getImported(), result.getReceived(),
+                result.getElapsedMillis());
+        return result;
+    }
+
+    private void writeChunk(List<ImportRecord> chunk, boolean upsert, JobImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                chunk.forEach(record -> write(record.job(), upsert));
+                entityManager.flush();
+                entityManager.clear();
+                changeLog.recordAll(chunk.stream().map(record -> record.job().getPostId()).toList(), JobChange.Type.UPSERT);
+            });
+            List<JobPost> jobs = chunk.stream().map(ImportRecord::job).toList();
+            result.setImported(result.getImported() + jobs.size());
+            jobIndexes.forEach(index -> index.indexAll(jobs));
+            responseCache.invalidate();
+        } catch (RuntimeException chunkFailure) {
+            // find the offending records; the rest still go in
+            for (ImportRecord record : chunk) {
+                // the failed attempt left a collection wrapper from its closed session on the entity
+                if (record.job().getPostSkills() != null) {
+                    record.job().setPostSkills(new ArrayList<>(record.job().getPostSkills()));
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        write(record.job(), upsert);
+                        entityManager.flush();
+                        entityManager.clear();
+                        changeLog.record(record.job().getPostId(), JobChange.Type.UPSERT);
+                    });
+                    indexed(record.job(), result);
+                } catch (RuntimeException e) {
+                    result.addError(record.position(), record.job().getPostId(), rootMessage(e));
+                }
+            }
+        }
+    }
+
+    private void write(JobPost job, boolean upsert) {
+        if (upsert) {
+            entityManager.merge(job);
+        } else {
+            entityManager.persist(job);
+        }
+    }
+
+    private void indexed(JobPost job, JobImportResult result) {
+        result.setImported(result.getImported() + 1);
+        jobIndexes.forEach(index -> index.index(job));
+        responseCache.invalidate();
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getMessage();
+        return message == null ? root.getClass().getSimpleName() : message.lines().findFirst().orElse(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.arijit.job_management_api.service;
+
+import java.util.Collection;
+
+import com.arijit.job_management_api.model.JobPost;
+
+/**
+ * In-memory structure derived from the job table that JobService keeps in
+ * step with every write.
+ */
+public interface JobIndex {
+
+    void rebuild(Collection<JobPost> jobs);
+
+    void index(JobPost job);
+
+    /**
+     * Several posts written together, such as one import chunk.
+     */
+    default void indexAll(Collection<JobPost> jobs) {
+        jobs.forEach(this::index);
+    }
+
+    void remove(int postId);
+}
@@ -0,0 +1,163 @@
+package com.arijit.job_management_api.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.arijit.job_management_api.model.JobPage;
+import com.arijit.job_management_api.model.JobPost;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+/**
+ * Sparse fieldsets: reads only the requested JobPost columns and skips the
+ * skills query unless postSkills is asked for. Rows come back as ordered
+ * maps in the order the fields were requested.
+ */
+@Service
+public class JobProjectionService {
+
+    public static final List<String> COLUMNS = List.of("postId", "postProfile", "postDesc", "reqExperience");
+    public static final String SKILLS = "postSkills";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Parses a comma separated field list. Throws IllegalArgumentException for
+     * an unknown field or an empty list.
+     */
+    public static List<String> parseFields(String fields) {
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!COLUMNS.contains(name) && !SKILLS.equals(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "', expected one of "
+                        + COLUMNS + " or " + SKILLS);
+            }
+            parsed.add(name);
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one field");
+        }
+        return List.copyOf(parsed);
+    }
+
+    /**
+     * Projected rows for the given ids, in the order of {@code ids}. Unknown
+     * ids are skipped.
+     */
+    public List<Map<String, Object>> findByIds(List<Integer> ids, List<String> fields) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Tuple> tuples = entityManager.createQuery(select(fields) + " WHERE j.postId IN :ids", Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Integer, Map<String, Object>> rows = toRows(tuples, fields);
+        List<Map<String, Object>> ordered = new ArrayList<>(rows.size());
+        for (Integer id : ids) {
+            Map<String, Object> row = rows.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Keyset page of projected rows with postId greater than {@code after}.
+     */
+    public JobPage<Map<String, Object>> findPage(int after, int size, List<String> fields) {
+        List<Tuple> tuples = entityManager.createQuery(select(fields) + " WHERE j.postId > :after ORDER BY j.postId", Tuple.class)
+                .setParameter("after", after)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean more = tuples.size() > size;
+        if (more) {
+            tuples = tuples.subList(0, size);
+        }
+        List<Map<String, Object>> rows = new ArrayList<>(toRows(tuples, fields).values());
+        Integer nextAfter = more ? tuples.get(tuples.size() - 1).get("postId", Integer.class) : null;
+        return new JobPage<>(rows, nextAfter);
+    }
+
+    public void forEachPage(int pageSize, List<String> fields, Consumer<List<Map<String, Object>>> consumer) {
+        int after = JobPage.START;
+        while (true) {
+            JobPage<Map<String, Object>> page = findPage(after, pageSize, fields);
+            if (!page.items().isEmpty()) {
+                consumer.accept(page.items());
+            }
+            if (page.nextAfter() == null) {
+                return;
+            }
+            after = page.nextAfter();
+        }
+    }
+
+    /**
+     * The same projection applied to an entity already in memory.
+     */
+    public static Map<String, Object> project(JobPost job, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, switch (field) {
+                case "postId" -> job.getPostId();
+                case "postProfile" -> job.getPostProfile();
+                case "postDesc" -> job.getPostDesc();
+                case "reqExperience" -> job.getReqExperience();
+                default -> job.getPostSkills();
+            });
+        }
+        return row;
+    }
+
+    // postId is always selected: rows are keyed and ordered by it
+    private static String select(List<String> fields) {
+        String columns = fields.stream()
+                .filter(field -> COLUMNS.contains(field) && !"postId".equals(field))
+                .map(field -> "j." + field + " AS " + field)
+                .collect(Collectors.joining(", "));
+        return "SELECT j.postId AS postId" + (columns.isEmpty() ? "" : ", " + columns) + " FROM JobPost j";
+    }
+
+    private Map<Integer, Map<String, Object>> toRows(List<Tuple> tuples, List<String> fields) {
+        Map<Integer, Map<String, Object>> rows = new LinkedHashMap<>();
+        for (Tuple tuple : tuples) {
+            Integer id = tuple.get("postId", Integer.class);
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                row.put(field, SKILLS.equals(field) ? new ArrayList<String>() : tuple.get(field));
+            }
+            rows.put(id, row);
+        }
+        if (fields.contains(SKILLS) && !rows.isEmpty()) {
+            loadSkills(rows);
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadSkills(Map<Integer, Map<String, Object>> rows) {
+        List<Object[]> skills = entityManager.createQuery(
+                        "SELECT j.postId, s FROM JobPost j JOIN j.postSkills s WHERE j.postId IN :ids", Object[].class)
+                .setParameter("ids", rows.keySet())
+                .getResultList();
+        for (Object[] skill : skills) {
+            ((List<String>) rows.get((Integer) skill[0]).get(SKILLS)).add((String) skill[1]);
+        }
+    }
+}
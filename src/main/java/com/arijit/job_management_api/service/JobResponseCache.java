@@ -0,0 +1,226 @@
+package com.arijit.job_management_api.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Already-encoded JSON for hot read endpoints, keyed by endpoint and
+ * arguments, with a gzip copy for larger bodies.
+ *
+ * Every job write bumps one generation number, and an entry built under an
+ * older generation is rebuilt on its next read. Writers call invalidate()
+ * only after every JobIndex has applied the write, so a body rendered under
+ * the new generation cannot come from an index that still has the old data.
+ * The ETag is a hash of the bytes, so a response whose content did not
+ * change across generations keeps its ETag and clients still get 304s.
+ */
+@Component
+public class JobResponseCache {
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    // etag is a hex content hash, null for a body that was too large to keep
+    public record CachedResponse(long generation, byte[] json, byte[] gzip, String etag) {
+
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+            boolean useGzip = gzip != null && acceptsGzip(acceptEncoding);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (useGzip) {
+                // a strong ETag must differ between encodings of the same content
+                return builder.eTag("\"" + etag + "-gzip\"").header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+            }
+            return builder.eTag("\"" + etag + "\"").body(json);
+        }
+
+        // q=0 refuses a coding; an explicit gzip entry takes precedence over *
+        private static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            boolean wildcard = false;
+            for (String coding : acceptEncoding.split(",")) {
+                String[] params = coding.split(";");
+                String name = params[0].trim().toLowerCase(Locale.ROOT);
+                if (name.equals("gzip") || name.equals("x-gzip")) {
+                    return quality(params) > 0;
+                }
+                if (name.equals("*")) {
+                    wildcard = quality(params) > 0;
+                }
+            }
+            return wildcard;
+        }
+
+        private static double quality(String[] params) {
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        return Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+            return 1;
+        }
+    }
+
+    private static final class TooLargeException extends IOException {
+    }
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<String, CachedResponse> responses;
+    private final int maxEntryBytes;
+    private final int gzipMinBytes;
+
+    public JobResponseCache(@Value("${response-cache.max-size:64MB}") DataSize maxSize,
+                            @Value("${response-cache.max-entry-size:8MB}") DataSize maxEntrySize,
+                            @Value("${response-cache.gzip-min-size:1KB}") DataSize gzipMinSize) {
+        this.maxEntryBytes = (int) Math.min(Integer.MAX_VALUE - 8, maxEntrySize.toBytes());
+        this.gzipMinBytes = (int) Math.min(Integer.MAX_VALUE, gzipMinSize.toBytes());
+        responses = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.json().length
+                        + (response.gzip() == null ? 0 : response.gzip().length))
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "jobResponses");
+    }
+
+    /**
+     * Returns the encoded body for {@code key}, rendering it with
+     * {@code writer} if missing or stale. Returns null if the body is larger
+     * than the per-entry limit; the caller should then stream it instead.
+     */
+    public CachedResponse get(String key, BodyWriter writer) {
+        long current = generation.get();
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null && cached.generation() == current) {
+            return cached.etag() == null ? null : cached;
+        }
+
+        CachedResponse rendered = render(current, writer);
+        // an oversized body is remembered as a bodiless entry so it is not rendered again this generation
+        responses.put(key, rendered != null ? rendered : new CachedResponse(current, NO_BODY, null, null));
+        return rendered;
+    }
+
+    /**
+     * Marks every entry stale.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private CachedResponse render(long forGeneration, BodyWriter writer) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = objectMapper.createGenerator(new LimitedOutputStream(buffer, maxEntryBytes))) {
+            writer.write(generator);
+        } catch (TooLargeException e) {
+            return null;
+        } catch (UncheckedIOException e) {
+            if (e.getCause() instanceof TooLargeException) {
+                return null;
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] json = buffer.toByteArray();
+        byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+        return new CachedResponse(forGeneration, json, gzip, etag(json));
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class LimitedOutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final int limit;
+        private int written;
+
+        LimitedOutputStream(OutputStream out, int limit) {
+            this.out = out;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureRoom(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureRoom(len);
+            out.write(b, off, len);
+        }
+
+        private void ensureRoom(int len) throws TooLargeException {
+            written += len;
+            if (written > limit) {
+                throw new TooLargeException();
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.arijit.job_management_api.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.arijit.job_management_api.model.JobPost;
+
+/**
+ * In-memory inverted index over job profile, description and skills.
+ *
+ * Query tokens match indexed terms exactly or by prefix, so "java" also finds
+ * "javascript" the way the LIKE query does. Results are ranked by a field
+ * weighted tf-idf score and the best {@code limit} are selected with a bounded
+ * min-heap instead of sorting every match.
+ */
+@Component
+public class JobSearchIndex implements JobIndex {
+
+    private static final int PROFILE_WEIGHT = 3;
+    private static final int SKILL_WEIGHT = 2;
+    private static final int DESC_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (postId -> field weighted term frequency)
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+
+    // postId -> terms indexed for it, so a post can be removed without rescanning
+    private final Map<Integer, Set<String>> postTerms = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void rebuild(Collection<JobPost> jobs) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            postTerms.clear();
+            for (JobPost job : jobs) {
+                addPostings(job);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(JobPost job) {
+        lock.writeLock().lock();
+        try {
+            removePostings(job.getPostId());
+            addPostings(job);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(int postId) {
+        lock.writeLock().lock();
+        try {
+            removePostings(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the best matching posts, highest score first.
+     */
+    public List<Integer> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int postCount = postTerms.size();
+            for (String token : new HashSet<>(tokens)) {
+                for (Map.Entry<String, Map<Integer, Integer>> entry : matchingTerms(token).entrySet()) {
+                    Map<Integer, Integer> docs = entry.getValue();
+                    double idf = Math.log(1.0 + (double) postCount / docs.size());
+                    double factor = entry.getKey().equals(token) ? 1.0 : PREFIX_MATCH_FACTOR;
+                    for (Map.Entry<Integer, Integer> doc : docs.entrySet()) {
+                        scores.merge(doc.getKey(), doc.getValue() * idf * factor, Double::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return topK(scores, limit);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private NavigableMap<String, Map<Integer, Integer>> matchingTerms(String token) {
+        return postings.subMap(token, true, token + Character.MAX_VALUE, false);
+    }
+
+    private void addPostings(JobPost job) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        countTerms(frequencies, job.getPostProfile(), PROFILE_WEIGHT);
+        countTerms(frequencies, job.getPostDesc(), DESC_WEIGHT);
+        if (job.getPostSkills() != null) {
+            for (String skill : job.getPostSkills()) {
+                countTerms(frequencies, skill, SKILL_WEIGHT);
+            }
+        }
+
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(job.getPostId(), entry.getValue());
+        }
+        postTerms.put(job.getPostId(), frequencies.keySet());
+    }
+
+    private void removePostings(int postId) {
+        Set<String> terms = postTerms.remove(postId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Integer, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(postId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void countTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static List<Integer> topK(Map<Integer, Double> scores, int limit) {
+        // min-heap on score; on equal scores the higher id is evicted first
+        PriorityQueue<Map.Entry<Integer, Double>> heap = new PriorityQueue<>(Math.min(limit, scores.size()) + 1,
+                (a, b) -> {
+                    int byScore = Double.compare(a.getValue(), b.getValue());
+                    return byScore != 0 ? byScore : Integer.compare(b.getKey(), a.getKey());
+                });
+
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        Integer[] ranked = new Integer[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll().getKey();
+        }
+        return List.of(ranked);
+    }
+}
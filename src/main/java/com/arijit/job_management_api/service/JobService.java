@@ -1,53 +1,231 @@
 package com.arijit.job_management_api.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.arijit.job_management_api.model.JobChange;
+import com.arijit.job_management_api.model.JobPage;
 import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.JobSuggestion;
 import com.arijit.job_management_api.repository.JobRepository;
 
+import jakarta.persistence.EntityManager;
+
 @Service
 public class JobService {
 
+    private static final Logger log = LoggerFactory.getLogger(JobService.class);
+
     @Autowired
     private JobRepository jobRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JobChangeLog changeLog;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private JobSearchIndex searchIndex;
+
+    @Autowired
+    private JobFilterIndex filterIndex;
+
+    @Autowired
+    private JobSuggestIndex suggestIndex;
+
+    @Autowired
+    private JobSnapshotStore snapshotStore;
+
+    @Autowired
+    private List<JobIndex> jobIndexes;
+
+    @Autowired
+    private JobResponseCache responseCache;
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void buildIndexes() {
+        List<JobPost> jobs = jobRepository.findAllWithSkills();
+        jobIndexes.forEach(index -> index.rebuild(jobs));
+        responseCache.invalidate();
+        log.info("Job indexes built with {} job posts", jobs.size());
+    }
+
     public JobPost getJob(int id) {
-        return jobRepository.findById(id).orElse(new JobPost());
+        JobSnapshot snapshot = snapshotStore.current();
+        if (snapshot != null) {
+            return snapshot.get(id).orElse(new JobPost());
+        }
+        return jobCache.get(id).orElse(new JobPost());
+    }
+
+    /**
+     * Keyset page of jobs with postId greater than {@code after}: one query
+     * for the ids, one for the rows and their skills.
+     */
+    public JobPage<JobPost> getJobsPage(int after, int size) {
+        JobSnapshot snapshot = snapshotStore.current();
+        if (snapshot != null) {
+            return snapshot.page(after, size);
+        }
+        List<Integer> ids = jobRepository.findIdsAfter(after, Limit.of(size + 1));
+        boolean more = ids.size() > size;
+        if (more) {
+            ids = ids.subList(0, size);
+        }
+        if (ids.isEmpty()) {
+            return new JobPage<>(List.of(), null);
+        }
+        List<JobPost> jobs = new ArrayList<>(jobRepository.findAllWithSkillsByIdIn(ids));
+        jobs.sort((a, b) -> Integer.compare(a.getPostId(), b.getPostId()));
+        return new JobPage<>(jobs, more ? ids.get(ids.size() - 1) : null);
+    }
+
+    /**
+     * Walks every job in postId order, handing the consumer one page at a
+     * time. The persistence context is cleared after each page so only the
+     * current page is held in memory, even under open-in-view.
+     */
+    public void forEachJobPage(int pageSize, Consumer<List<JobPost>> consumer) {
+        int after = JobPage.START;
+        while (true) {
+            JobPage<JobPost> page = getJobsPage(after, pageSize);
+            if (!page.items().isEmpty()) {
+                consumer.accept(page.items());
+                entityManager.clear();
+            }
+            if (page.nextAfter() == null) {
+                return;
+            }
+            after = page.nextAfter();
+        }
+    }
+
+    public JobPost addJob(JobPost job) {
+        return save(job);
+    }
+
+    public JobPost updateJob(JobPost job) {
+        return save(job);
+    }
+
+    private JobPost save(JobPost job) {
+        JobPost saved = transactionTemplate.execute(status -> {
+            JobPost persisted = jobRepository.save(job);
+            changeLog.record(persisted.getPostId(), JobChange.Type.UPSERT);
+            return persisted;
+        });
+        jobIndexes.forEach(index -> index.index(saved));
+        responseCache.invalidate();
+        return saved;
     }
 
-    public List<JobPost> getAllJobs() {
-        return jobRepository.findAll();
+    /**
+     * Returns false if there was no job with this id.
+     */
+    public boolean deleteJob(int id) {
+        boolean deleted = transactionTemplate.execute(status -> {
+            Optional<JobPost> job = jobRepository.findById(id);
+            job.ifPresent(existing -> {
+                jobRepository.delete(existing);
+                changeLog.record(id, JobChange.Type.DELETE);
+            });
+            return job.isPresent();
+        });
+        jobIndexes.forEach(index -> index.remove(id));
+        responseCache.invalidate();
+        return deleted;
     }
 
-    public void addJob(JobPost job) {
-        jobRepository.save(job);
+    public List<JobPost> search(String keyword, int limit) {
+        List<Integer> ids = searchIds(keyword, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        JobSnapshot snapshot = snapshotStore.current();
+        if (snapshot != null) {
+            return snapshot.getAll(ids);
+        }
+        Map<Integer, JobPost> jobsById = jobRepository.findAllWithSkillsByIdIn(ids).stream()
+                .collect(Collectors.toMap(JobPost::getPostId, Function.identity()));
+        return ids.stream().map(jobsById::get).filter(job -> job != null).toList();
     }
 
-    public void updateJob(JobPost job) {
-        jobRepository.save(job);
+    /**
+     * Ids of the best matches, most relevant first. Words and word prefixes
+     * match; a substring in the middle of a word does not.
+     */
+    public List<Integer> searchIds(String keyword, int limit) {
+        if (searchIndex.isReady()) {
+            return searchIndex.search(keyword, limit);
+        }
+        // index not built yet: use the LIKE scan
+        return jobRepository.searchJobIds(keyword, Limit.of(limit));
     }
 
-    public void deleteJob(int id) {
-        jobRepository.deleteById(id);
+    /**
+     * Profiles and skills starting with {@code prefix}, most common first.
+     * Answered from memory only; empty until the indexes are built.
+     */
+    public List<JobSuggestion> suggest(String prefix, int limit) {
+        return suggestIndex.suggest(prefix, limit);
     }
 
-    public List<JobPost> search(String keyword) {
-        return jobRepository.searchJob(keyword);
+    public List<JobPost> filter(Collection<String> allSkills, Collection<String> anySkills,
+                                Integer minExperience, Integer maxExperience, int limit) {
+        if (!filterIndex.isReady()) {
+            return jobRepository.findAllWithSkills().stream()
+                    .filter(job -> JobFilterIndex.matches(job, allSkills, anySkills, minExperience, maxExperience))
+                    .limit(limit)
+                    .toList();
+        }
+        List<Integer> ids = filterIndex.filter(allSkills, anySkills, minExperience, maxExperience, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        JobSnapshot snapshot = snapshotStore.current();
+        if (snapshot != null) {
+            return snapshot.getAll(ids);
+        }
+        List<JobPost> jobs = new ArrayList<>(jobRepository.findAllWithSkillsByIdIn(ids));
+        jobs.sort((a, b) -> Integer.compare(a.getPostId(), b.getPostId()));
+        return jobs;
     }
 
     public void load() {
-        List<JobPost> jobs = new ArrayList<>(List.of(
+        List<JobPost> jobs = List.of(
                 new JobPost(1, "Software Engineer", "Exciting opportunity for a skilled software engineer.", 3, List.of("Java", "Spring", "SQL")),
                 new JobPost(2, "Data Scientist", "Join our data science team and work on cutting-edge projects.", 5, List.of("Python", "Machine Learning", "TensorFlow")),
                 new JobPost(3, "Frontend Developer", "Create amazing user interfaces with our talented frontend team.", 2, List.of("JavaScript", "React", "CSS")),
                 new JobPost(4, "Network Engineer", "Design and maintain our robust network infrastructure.", 4, List.of("Cisco", "Routing", "Firewalls")),
                 new JobPost(5, "UX Designer", "Shape the user experience with your creative design skills.", 3, List.of("UI/UX Design", "Adobe XD", "Prototyping"))
-        ));
+        );
 
-        jobRepository.saveAll(jobs);
+        // upsert so /load can be called again
+        jobImportService.importJobs(jobs.iterator(), true);
     }
 }
@@ -0,0 +1,296 @@
+package com.arijit.job_management_api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.arijit.job_management_api.model.JobPage;
+import com.arijit.job_management_api.model.JobPost;
+
+/**
+ * Immutable, column-oriented copy of every job post.
+ *
+ * Posts are rows of parallel primitive arrays sorted by postId. Profiles and
+ * descriptions are UTF-8 bytes in one shared array per column, addressed by
+ * offsets; skills are codes into a dictionary holding each distinct skill
+ * string once. A post costs a few array slots instead of a JobPost, an
+ * Integer, a list and a String object per field and skill. JobPost objects
+ * are built on each read and never shared.
+ */
+public final class JobSnapshot {
+
+    // header of an object or array, and reference size, with compressed oops
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int NO_EXPERIENCE = Integer.MIN_VALUE;
+
+    private final int[] ids;
+    private final byte[] profiles;
+    private final int[] profileOffsets;
+    private final byte[] descriptions;
+    private final int[] descriptionOffsets;
+    private final int[] experience;
+    private final int[] skillCodes;
+    private final int[] skillOffsets;
+    private final String[] skillDictionary;
+    // rows whose profile, description or skill list is null rather than empty
+    private final BitSet nullProfiles;
+    private final BitSet nullDescriptions;
+    private final BitSet nullSkills;
+    private final long entityGraphBytes;
+
+    private JobSnapshot(Builder builder) {
+        int size = builder.size;
+        ids = Arrays.copyOf(builder.ids, size);
+        profiles = Arrays.copyOf(builder.profiles.bytes, builder.profiles.length);
+        profileOffsets = Arrays.copyOf(builder.profiles.offsets, size + 1);
+        descriptions = Arrays.copyOf(builder.descriptions.bytes, builder.descriptions.length);
+        descriptionOffsets = Arrays.copyOf(builder.descriptions.offsets, size + 1);
+        experience = Arrays.copyOf(builder.experience, size);
+        skillCodes = Arrays.copyOf(builder.skillCodes, builder.skillCount);
+        skillOffsets = Arrays.copyOf(builder.skillOffsets, size + 1);
+        skillDictionary = builder.dictionary.toArray(String[]::new);
+        nullProfiles = builder.nullProfiles;
+        nullDescriptions = builder.nullDescriptions;
+        nullSkills = builder.nullSkills;
+        entityGraphBytes = builder.entityGraphBytes;
+    }
+
+    public static JobSnapshot of(Collection<JobPost> jobs) {
+        Builder builder = new Builder();
+        jobs.stream().sorted(Comparator.comparingInt(JobPost::getPostId)).forEach(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public Optional<JobPost> get(int postId) {
+        int row = Arrays.binarySearch(ids, postId);
+        return row < 0 ? Optional.empty() : Optional.of(job(row));
+    }
+
+    /**
+     * The posts for {@code postIds} in the same order, skipping unknown ids.
+     */
+    public List<JobPost> getAll(List<Integer> postIds) {
+        List<JobPost> jobs = new ArrayList<>(postIds.size());
+        for (int postId : postIds) {
+            int row = Arrays.binarySearch(ids, postId);
+            if (row >= 0) {
+                jobs.add(job(row));
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Same contract as JobService.getJobsPage.
+     */
+    public JobPage<JobPost> page(int after, int size) {
+        int from = Arrays.binarySearch(ids, after);
+        from = from < 0 ? -from - 1 : from + 1;
+        int to = Math.min(ids.length, from + size);
+        List<JobPost> jobs = new ArrayList<>(Math.max(0, to - from));
+        for (int row = from; row < to; row++) {
+            jobs.add(job(row));
+        }
+        return new JobPage<>(jobs, to < ids.length && !jobs.isEmpty() ? ids[to - 1] : null);
+    }
+
+    /**
+     * Bytes held by this snapshot.
+     */
+    public long footprintBytes() {
+        long bytes = HEADER + 13 * REFERENCE + 8;
+        bytes += intArray(ids.length) + byteArray(profiles.length) + intArray(profileOffsets.length)
+                + byteArray(descriptions.length) + intArray(descriptionOffsets.length) + intArray(experience.length)
+                + intArray(skillCodes.length) + intArray(skillOffsets.length) + referenceArray(skillDictionary.length);
+        for (String skill : skillDictionary) {
+            bytes += stringBytes(skill);
+        }
+        for (BitSet nulls : List.of(nullProfiles, nullDescriptions, nullSkills)) {
+            bytes += align(HEADER + REFERENCE + 8) + align(ARRAY_HEADER + 8L * nulls.size() / 64);
+        }
+        return bytes;
+    }
+
+    /**
+     * Estimated bytes the same posts take as detached JobPost objects, the way
+     * JobCache holds them.
+     */
+    public long entityGraphBytes() {
+        return entityGraphBytes;
+    }
+
+    public int distinctSkills() {
+        return skillDictionary.length;
+    }
+
+    private JobPost job(int row) {
+        List<String> skills = null;
+        if (!nullSkills.get(row)) {
+            skills = new ArrayList<>(skillOffsets[row + 1] - skillOffsets[row]);
+            for (int i = skillOffsets[row]; i < skillOffsets[row + 1]; i++) {
+                skills.add(skillDictionary[skillCodes[i]]);
+            }
+        }
+        return new JobPost(ids[row],
+                nullProfiles.get(row) ? null : text(profiles, profileOffsets, row),
+                nullDescriptions.get(row) ? null : text(descriptions, descriptionOffsets, row),
+                experience[row] == NO_EXPERIENCE ? null : experience[row],
+                skills);
+    }
+
+    private static String text(byte[] column, int[] offsets, int row) {
+        return new String(column, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static long intArray(int length) {
+        return align(ARRAY_HEADER + 4L * length);
+    }
+
+    private static long byteArray(int length) {
+        return align(ARRAY_HEADER + (long) length);
+    }
+
+    private static long referenceArray(int length) {
+        return align(ARRAY_HEADER + (long) REFERENCE * length);
+    }
+
+    // a String and its value array: one byte per char if all chars are Latin-1, otherwise two
+    private static long stringBytes(String value) {
+        boolean latin1 = value.chars().allMatch(c -> c < 256);
+        return align(HEADER + REFERENCE + 4 + 4 + 1 + 1) + byteArray(latin1 ? value.length() : 2 * value.length());
+    }
+
+    /**
+     * Collects posts in ascending postId order.
+     */
+    static final class Builder {
+
+        private int size;
+        private int[] ids = new int[1024];
+        private final TextColumn profiles = new TextColumn(16 * 1024);
+        private final TextColumn descriptions = new TextColumn(64 * 1024);
+        private int[] experience = new int[1024];
+        private int[] skillCodes = new int[4096];
+        private int skillCount;
+        private int[] skillOffsets = new int[1025];
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final BitSet nullProfiles = new BitSet();
+        private final BitSet nullDescriptions = new BitSet();
+        private final BitSet nullSkills = new BitSet();
+        private long entityGraphBytes;
+
+        void add(JobPost job) {
+            if (size > 0 && job.getPostId() <= ids[size - 1]) {
+                throw new IllegalArgumentException("Posts must be added in ascending postId order");
+            }
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                experience = Arrays.copyOf(experience, capacity);
+                skillOffsets = Arrays.copyOf(skillOffsets, capacity + 1);
+            }
+            ids[size] = job.getPostId();
+            experience[size] = job.getReqExperience() == null ? NO_EXPERIENCE : job.getReqExperience();
+
+            if (job.getPostProfile() == null) {
+                nullProfiles.set(size);
+            }
+            profiles.add(size, job.getPostProfile());
+            if (job.getPostDesc() == null) {
+                nullDescriptions.set(size);
+            }
+            descriptions.add(size, job.getPostDesc());
+
+            List<String> skills = job.getPostSkills();
+            if (skills == null) {
+                nullSkills.set(size);
+            } else {
+                if (skillCount + skills.size() > skillCodes.length) {
+                    skillCodes = Arrays.copyOf(skillCodes, Math.max(skillCodes.length * 2, skillCount + skills.size()));
+                }
+                for (String skill : skills) {
+                    skillCodes[skillCount++] = codes.computeIfAbsent(skill, key -> {
+                        dictionary.add(key);
+                        return dictionary.size() - 1;
+                    });
+                }
+            }
+            skillOffsets[size + 1] = skillCount;
+
+            entityGraphBytes += entityBytes(job);
+            size++;
+        }
+
+        // one text field of every row, as UTF-8 bytes back to back
+        private static final class TextColumn {
+            private byte[] bytes;
+            private int length;
+            private int[] offsets = new int[1025];
+
+            TextColumn(int capacity) {
+                bytes = new byte[capacity];
+            }
+
+            void add(int row, String text) {
+                if (text != null) {
+                    byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+                    if (length + encoded.length > bytes.length) {
+                        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + encoded.length));
+                    }
+                    System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                    length += encoded.length;
+                }
+                if (row + 1 == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                offsets[row + 1] = length;
+            }
+        }
+
+        JobSnapshot build() {
+            return new JobSnapshot(this);
+        }
+
+        // JobPost (id, three references, Integer reference) plus what it points to
+        private static long entityBytes(JobPost job) {
+            long bytes = align(HEADER + 4 + 4L * REFERENCE);
+            Integer experience = job.getReqExperience();
+            // Integer.valueOf shares instances from -128 to 127
+            if (experience != null && (experience < -128 || experience > 127)) {
+                bytes += align(HEADER + 4);
+            }
+            if (job.getPostProfile() != null) {
+                bytes += stringBytes(job.getPostProfile());
+            }
+            if (job.getPostDesc() != null) {
+                bytes += stringBytes(job.getPostDesc());
+            }
+            if (job.getPostSkills() != null) {
+                // ArrayList with its backing array, and one String per skill
+                bytes += align(HEADER + 4 + 4 + REFERENCE) + referenceArray(job.getPostSkills().size());
+                for (String skill : job.getPostSkills()) {
+                    bytes += stringBytes(skill);
+                }
+            }
+            return bytes;
+        }
+    }
+}
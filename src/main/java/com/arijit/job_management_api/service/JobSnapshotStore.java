@@ -0,0 +1,178 @@
+package com.arijit.job_management_api.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.arijit.job_management_api.model.JobPage;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.repository.JobRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Snapshot mode for read endpoints (job-snapshot.enabled): JobService reads
+ * posts from a JobSnapshot instead of the job cache and the database.
+ *
+ * The snapshot is built when the indexes are, and rebuilt every
+ * job-snapshot.refresh-interval-ms if a write happened since, then swapped
+ * in with one volatile write, so readers never lock. Scheduled rebuilds run
+ * on their own thread: the scheduler has one thread shared with the
+ * blacklist sync and the change-feed poll, which a full-table read would
+ * otherwise hold up. Reads may therefore be
+ * up to one refresh interval behind the latest write. Publishing a snapshot
+ * invalidates the response cache, since bodies rendered after a write but
+ * before the refresh still hold the old posts. Its footprint and the
+ * estimated size of the same posts as JobPost objects are published as the
+ * job.snapshot.memory gauge and logged on every build.
+ */
+@Component
+public class JobSnapshotStore implements JobIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(JobSnapshotStore.class);
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JobResponseCache responseCache;
+
+    private final boolean enabled;
+    private volatile JobSnapshot snapshot;
+    private volatile boolean stale;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobSnapshotStore(@Value("${job-snapshot.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        if (enabled) {
+            Gauge.builder("job.snapshot.memory", this, store -> store.snapshot == null ? 0 : store.snapshot.footprintBytes())
+                    .description("Bytes held by the job snapshot")
+                    .tag("layout", "columnar")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("job.snapshot.memory", this, store -> store.snapshot == null ? 0 : store.snapshot.entityGraphBytes())
+                    .description("Estimated bytes of the same posts held as JobPost objects")
+                    .tag("layout", "entities")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * The current snapshot, or null when snapshot mode is off or it is not
+     * built yet.
+     */
+    public JobSnapshot current() {
+        return snapshot;
+    }
+
+    @Override
+    public void rebuild(Collection<JobPost> jobs) {
+        if (enabled) {
+            stale = false;
+            publish(JobSnapshot.of(jobs), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void index(JobPost job) {
+        stale = true;
+    }
+
+    @Override
+    public void indexAll(Collection<JobPost> jobs) {
+        stale = true;
+    }
+
+    @Override
+    public void remove(int postId) {
+        stale = true;
+    }
+
+    @Scheduled(fixedDelayString = "${job-snapshot.refresh-interval-ms:60000}")
+    public void scheduleRefresh() {
+        if (enabled && stale && refreshPending.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    log.warn("Job snapshot refresh failed, retrying on the next run", e);
+                } finally {
+                    refreshPending.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot from the database on the calling thread if a
+     * write happened since the last build.
+     */
+    public synchronized void refresh() {
+        if (!enabled || !stale || snapshot == null) {
+            return;
+        }
+        // cleared first so a write during the build marks the new snapshot stale again
+        stale = false;
+        long start = System.nanoTime();
+        JobSnapshot.Builder builder = new JobSnapshot.Builder();
+        try {
+            int after = JobPage.START;
+            while (true) {
+                List<Integer> ids = jobRepository.findIdsAfter(after, Limit.of(PAGE_SIZE));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                jobRepository.findAllWithSkillsByIdIn(ids).stream()
+                        .sorted((a, b) -> Integer.compare(a.getPostId(), b.getPostId()))
+                        .forEach(builder::add);
+                after = ids.get(ids.size() - 1);
+            }
+        } catch (RuntimeException e) {
+            // retried on the next run instead of waiting for another write
+            stale = true;
+            throw e;
+        }
+        publish(builder.build(), start);
+    }
+
+    @PreDestroy
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void publish(JobSnapshot built, long start) {
+        snapshot = built;
+        responseCache.invalidate();
+        log.info("Job snapshot built with {} posts and {} distinct skills in {} ms: {} KB, {} KB as JobPost objects",
+                built.size(), built.distinctSkills(), (System.nanoTime() - start) / 1_000_000,
+                built.footprintBytes() / 1024, built.entityGraphBytes() / 1024);
+    }
+}
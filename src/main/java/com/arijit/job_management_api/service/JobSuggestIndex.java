@@ -0,0 +1,214 @@
+package com.arijit.job_management_api.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.JobSuggestion;
+
+/**
+ * Type-ahead completions from job profiles and skills.
+ *
+ * Every distinct profile and skill (case-insensitive) is a term weighted by
+ * the number of posts that carry it. Terms live in sorted parallel arrays, so
+ * the completions of a prefix are one contiguous range found by binary search,
+ * and the best {@code limit} of that range are picked in a single pass.
+ *
+ * The arrays are immutable and replaced on every write by merging the changed
+ * terms into a copy, so lookups take no lock. Writers are serialized.
+ */
+@Component
+public class JobSuggestIndex implements JobIndex {
+
+    private record Snapshot(String[] keys, String[] texts, int[] counts) {
+    }
+
+    private record Change(String text, int delta) {
+    }
+
+    private static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new int[0]);
+
+    private volatile Snapshot snapshot = EMPTY;
+
+    // postId -> term key -> term as written, so a post can be removed without rescanning
+    private final Map<Integer, Map<String, String>> postTerms = new HashMap<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<JobPost> jobs) {
+        postTerms.clear();
+        snapshot = EMPTY;
+        indexAll(jobs);
+        ready = true;
+    }
+
+    @Override
+    public synchronized void index(JobPost job) {
+        indexAll(List.of(job));
+    }
+
+    @Override
+    public synchronized void indexAll(Collection<JobPost> jobs) {
+        Map<String, Change> changes = new TreeMap<>();
+        for (JobPost job : jobs) {
+            Map<String, String> terms = terms(job);
+            Map<String, String> previous = postTerms.put(job.getPostId(), terms);
+            if (previous != null) {
+                previous.forEach((key, text) -> addChange(changes, key, text, -1));
+            }
+            terms.forEach((key, text) -> addChange(changes, key, text, 1));
+        }
+        apply(changes);
+    }
+
+    @Override
+    public synchronized void remove(int postId) {
+        Map<String, String> previous = postTerms.remove(postId);
+        if (previous != null) {
+            Map<String, Change> changes = new TreeMap<>();
+            previous.forEach((key, text) -> addChange(changes, key, text, -1));
+            apply(changes);
+        }
+    }
+
+    /**
+     * Up to {@code limit} terms starting with {@code prefix}, most frequent
+     * first and alphabetical among equals. A blank prefix gives the most
+     * frequent terms overall.
+     */
+    public List<JobSuggestion> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String[] keys = current.keys();
+        int[] counts = current.counts();
+        String key = prefix == null ? "" : normalize(prefix);
+        int from = lowerBound(keys, key);
+        int to = key.isEmpty() ? keys.length : lowerBound(keys, key + Character.MAX_VALUE);
+
+        // indexes of the best terms so far, best first; ties keep the earlier (alphabetical) term
+        int[] best = new int[Math.max(0, Math.min(limit, to - from))];
+        if (best.length == 0) {
+            return List.of();
+        }
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            if (size == best.length && counts[i] <= counts[best[size - 1]]) {
+                continue;
+            }
+            int slot = size < best.length ? size++ : size - 1;
+            while (slot > 0 && counts[best[slot - 1]] < counts[i]) {
+                best[slot] = best[slot - 1];
+                slot--;
+            }
+            best[slot] = i;
+        }
+
+        List<JobSuggestion> suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            suggestions.add(new JobSuggestion(current.texts()[best[i]], counts[best[i]]));
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return snapshot.keys().length;
+    }
+
+    private static void addChange(Map<String, Change> changes, String key, String text, int delta) {
+        // a term added back keeps its new spelling
+        changes.merge(key, new Change(text, delta),
+                (old, added) -> new Change(added.delta() > 0 ? added.text() : old.text(), old.delta() + added.delta()));
+    }
+
+    /**
+     * Merges the changes, sorted by key, into a copy of the current arrays and
+     * publishes it. Terms whose count drops to zero are left out.
+     */
+    private void apply(Map<String, Change> changes) {
+        changes.values().removeIf(change -> change.delta() == 0);
+        if (changes.isEmpty()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        int capacity = current.keys().length + changes.size();
+        String[] keys = new String[capacity];
+        String[] texts = new String[capacity];
+        int[] counts = new int[capacity];
+        int size = 0;
+        int i = 0;
+        for (Map.Entry<String, Change> entry : changes.entrySet()) {
+            String key = entry.getKey();
+            while (i < current.keys().length && current.keys()[i].compareTo(key) < 0) {
+                keys[size] = current.keys()[i];
+                texts[size] = current.texts()[i];
+                counts[size++] = current.counts()[i++];
+            }
+            int count = entry.getValue().delta();
+            String text = entry.getValue().text();
+            if (i < current.keys().length && current.keys()[i].equals(key)) {
+                count += current.counts()[i];
+                text = current.texts()[i];
+                i++;
+            }
+            if (count > 0) {
+                keys[size] = key;
+                texts[size] = text;
+                counts[size++] = count;
+            }
+        }
+        int rest = current.keys().length - i;
+        System.arraycopy(current.keys(), i, keys, size, rest);
+        System.arraycopy(current.texts(), i, texts, size, rest);
+        System.arraycopy(current.counts(), i, counts, size, rest);
+        size += rest;
+        snapshot = new Snapshot(Arrays.copyOf(keys, size), Arrays.copyOf(texts, size), Arrays.copyOf(counts, size));
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Map<String, String> terms(JobPost job) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        addTerm(terms, job.getPostProfile());
+        if (job.getPostSkills() != null) {
+            for (String skill : job.getPostSkills()) {
+                addTerm(terms, skill);
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(Map<String, String> terms, String text) {
+        if (text != null && !text.isBlank()) {
+            terms.putIfAbsent(normalize(text), text.trim());
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,61 @@
+package com.arijit.job_management_api.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.arijit.job_management_api.model.RevokedToken;
+import com.arijit.job_management_api.repository.RevokedTokenRepository;
+
+/**
+ * Blacklist store backed by the revoked_tokens table, shared by all nodes.
+ * A unique key on the digest lets exactly one node revoke a given token.
+ */
+@Service
+@ConditionalOnProperty(name = "blacklist.store", havingValue = "jdbc", matchIfMissing = true)
+public class JpaTokenBlacklistStore implements TokenBlacklistStore {
+
+    @Autowired
+    private RevokedTokenRepository repository;
+
+    @Autowired
+    private DatabaseClock databaseClock;
+
+    @Override
+    public long append(long digestHi, long digestLo, long expiresAt) {
+        // checked first so that a repeat does not burn a version and leave a gap for every node to wait on
+        if (repository.existsByDigestHiAndDigestLo(digestHi, digestLo)) {
+            return ALREADY_REVOKED;
+        }
+        try {
+            return repository.save(new RevokedToken(0, digestHi, digestLo, expiresAt, databaseClock.millis())).getVersion();
+        } catch (DataIntegrityViolationException e) {
+            // another node inserted the same digest since the check
+            return ALREADY_REVOKED;
+        }
+    }
+
+    @Override
+    public List<RevokedToken> fetchSince(long afterVersion, int limit) {
+        return repository.findByVersionGreaterThanOrderByVersionAsc(afterVersion, Limit.of(limit));
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return databaseClock.millis();
+    }
+
+    @Override
+    public long size() {
+        return repository.count();
+    }
+
+    @Override
+    public int purgeExpired(long now) {
+        return repository.deleteExpired(now);
+    }
+}
@@ -0,0 +1,250 @@
+package com.arijit.job_management_api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Signing keys for JWTs, identical on every node that shares the same
+ * secrets.
+ *
+ * Secrets come from a PKCS12 keystore (jwt.keystore.path, one secret-key
+ * entry per alias) or from jwt.secrets ("id:base64,id:base64", first one
+ * signs). Tokens are not signed with a secret directly: the key for each
+ * rotation period is derived as HMAC-SHA256(secret, period), and the kid
+ * header names secret and period. Nodes therefore rotate at the same moment
+ * without talking to each other, and a key stays accepted for the grace
+ * period after it was last used for signing, which must cover the longest
+ * token lifetime. Secrets other than the signing one only verify tokens, so
+ * a secret is replaced by adding the new one first and removing the old one
+ * a grace period after it stopped signing.
+ *
+ * Derived keys are built once per period; a lookup by kid is a map read.
+ * Without any configured secret a random one is generated, which only works
+ * for a single node and does not survive a restart.
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final String RANDOM_SECRET_ID = "local";
+
+    /**
+     * A derived key and the kid it is published under.
+     */
+    public record SigningKey(String id, Key key) {
+    }
+
+    private record Secrets(Map<String, byte[]> byId, String signingId) {
+    }
+
+    private record RingState(long period, SigningKey signing, Map<String, Key> verification) {
+    }
+
+    private final Duration rotationInterval;
+    private final Duration gracePeriod;
+    private final Clock clock;
+    private final Path keystorePath;
+    private final char[] keystorePassword;
+    private final String keystoreSigningAlias;
+
+    private volatile Secrets secrets;
+    private volatile FileTime keystoreModified;
+    private volatile RingState state;
+
+    @Autowired
+    public JwtKeyRing(@Value("${jwt.secrets:}") String secrets,
+                      @Value("${jwt.keystore.path:}") String keystorePath,
+                      @Value("${jwt.keystore.password:}") String keystorePassword,
+                      @Value("${jwt.keystore.signing-alias:}") String keystoreSigningAlias,
+                      @Value("${jwt.key-rotation-interval:1d}") Duration rotationInterval,
+                      @Value("${jwt.key-grace-period:${jwt.refresh-token-validity:7d}}") Duration gracePeriod) {
+        this(secrets, keystorePath, keystorePassword, keystoreSigningAlias, rotationInterval, gracePeriod,
+                Clock.systemUTC());
+    }
+
+    JwtKeyRing(String secrets, String keystorePath, String keystorePassword, String keystoreSigningAlias,
+               Duration rotationInterval, Duration gracePeriod, Clock clock) {
+        if (rotationInterval.isNegative() || rotationInterval.isZero()) {
+            throw new IllegalArgumentException("jwt.key-rotation-interval must be positive");
+        }
+        this.rotationInterval = rotationInterval;
+        this.gracePeriod = gracePeriod;
+        this.clock = clock;
+        this.keystorePath = keystorePath.isBlank() ? null : Path.of(keystorePath);
+        this.keystorePassword = keystorePassword.toCharArray();
+        this.keystoreSigningAlias = keystoreSigningAlias;
+
+        if (this.keystorePath != null) {
+            loadKeystore();
+        } else if (!secrets.isBlank()) {
+            loadSecrets(secrets);
+        } else {
+            log.warn("No jwt.secrets or jwt.keystore.path configured; signing with a random secret, "
+                    + "tokens will not be accepted by other nodes or after a restart");
+            this.secrets = new Secrets(Map.of(RANDOM_SECRET_ID, Base64.getDecoder().decode(JwtService.generateSecretKey())),
+                    RANDOM_SECRET_ID);
+        }
+        state = build(currentPeriod());
+    }
+
+    /**
+     * A ring with one secret, for use outside the Spring context.
+     */
+    public static JwtKeyRing of(String base64Secret) {
+        return new JwtKeyRing(RANDOM_SECRET_ID + ":" + base64Secret, "", "", "", Duration.ofDays(1),
+                Duration.ofDays(7), Clock.systemUTC());
+    }
+
+    public SigningKey signingKey() {
+        return currentState().signing();
+    }
+
+    /**
+     * The key for a kid, or null if it is unknown or outside the grace
+     * period.
+     */
+    public Key verificationKey(String keyId) {
+        return keyId == null ? null : currentState().verification().get(keyId);
+    }
+
+    /**
+     * Picks up a new period, and keystore changes, between requests so that
+     * lookups never build keys.
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-refresh-interval-ms:60000}")
+    public void refresh() {
+        if (keystorePath != null) {
+            try {
+                if (!Files.getLastModifiedTime(keystorePath).equals(keystoreModified)) {
+                    loadKeystore();
+                    state = build(currentPeriod());
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Could not reload JWT keystore {}, keeping the current keys", keystorePath, e);
+            }
+        }
+        currentState();
+    }
+
+    private RingState currentState() {
+        RingState current = state;
+        long period = currentPeriod();
+        if (current.period() != period) {
+            // rare: the scheduled refresh has not run yet in a new period
+            current = build(period);
+            state = current;
+        }
+        return current;
+    }
+
+    private long currentPeriod() {
+        return Math.floorDiv(clock.millis(), rotationInterval.toMillis());
+    }
+
+    private RingState build(long period) {
+        Secrets active = secrets;
+        // keys signed up to the grace period ago, and the next period for nodes whose clock runs ahead
+        long oldest = period - Math.ceilDiv(gracePeriod.toMillis(), rotationInterval.toMillis());
+        Map<String, Key> verification = new HashMap<>();
+        for (Map.Entry<String, byte[]> secret : active.byId().entrySet()) {
+            for (long p = oldest; p <= period + 1; p++) {
+                verification.put(keyId(secret.getKey(), p), derive(secret.getValue(), p));
+            }
+        }
+        String signingId = keyId(active.signingId(), period);
+        return new RingState(period, new SigningKey(signingId, verification.get(signingId)),
+                Collections.unmodifiableMap(verification));
+    }
+
+    private static String keyId(String secretId, long period) {
+        return secretId + "." + period;
+    }
+
+    private static Key derive(byte[] secret, long period) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return Keys.hmacShaKeyFor(
+                    mac.doFinal(("jwt-signing-key:" + period).getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private void loadSecrets(String configured) {
+        Map<String, byte[]> parsed = new LinkedHashMap<>();
+        for (String entry : configured.split(",")) {
+            int colon = entry.indexOf(':');
+            if (colon <= 0 || colon == entry.length() - 1) {
+                throw new IllegalArgumentException("jwt.secrets entries must look like id:base64-secret");
+            }
+            String id = entry.substring(0, colon).trim();
+            parsed.put(id, checkLength(id, Base64.getDecoder().decode(entry.substring(colon + 1).trim())));
+        }
+        secrets = new Secrets(parsed, parsed.keySet().iterator().next());
+    }
+
+    private void loadKeystore() {
+        try (InputStream in = Files.newInputStream(keystorePath)) {
+            FileTime modified = Files.getLastModifiedTime(keystorePath);
+            KeyStore keystore = KeyStore.getInstance("PKCS12");
+            keystore.load(in, keystorePassword);
+            Map<String, byte[]> loaded = new LinkedHashMap<>();
+            List<String> aliases = new ArrayList<>(Collections.list(keystore.aliases()));
+            Collections.sort(aliases);
+            for (String alias : aliases) {
+                if (keystore.getKey(alias, keystorePassword) instanceof SecretKey key) {
+                    loaded.put(alias, checkLength(alias, key.getEncoded()));
+                }
+            }
+            String signing = keystoreSigningAlias.isBlank() && loaded.size() == 1
+                    ? loaded.keySet().iterator().next() : keystoreSigningAlias;
+            if (!loaded.containsKey(signing)) {
+                throw new IllegalStateException("jwt.keystore.signing-alias must name one of " + loaded.keySet());
+            }
+            secrets = new Secrets(loaded, signing);
+            keystoreModified = modified;
+            log.info("Loaded {} JWT secrets from {}, signing with {}", loaded.size(), keystorePath, signing);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Could not load JWT keystore " + keystorePath, e);
+        }
+    }
+
+    private static byte[] checkLength(String id, byte[] secret) {
+        if (secret.length < 32) {
+            throw new IllegalArgumentException("JWT secret " + id + " must be at least 256 bits");
+        }
+        return secret;
+    }
+}
@@ -1,89 +1,199 @@
 package com.arijit.job_management_api.service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.arijit.job_management_api.service.JwtKeyRing.SigningKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
 
 @Service
 public class JwtService {
 
-    private String secretKey;
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 100_000;
+    private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    @Value("${jwt.access-token-validity:15m}")
+    private Duration accessTokenValidity = Duration.ofMinutes(15);
+
+    @Value("${jwt.refresh-token-validity:7d}")
+    private Duration refreshTokenValidity = Duration.ofDays(7);
+
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
 
-    public JwtService() {
-        secretKey = generateSecretKey();
+    // SHA-256 of the token -> claims already verified for it, dropped when the token expires
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(Expiry.creating((ByteBuffer digest, VerifiedToken token) ->
+                    Duration.ofMillis(Math.max(0, token.expiration().getTime() - System.currentTimeMillis()))))
+            .build();
+
+    /**
+     * Subject, expiry and kind of a token whose signature has been checked,
+     * and the kid of the key that checked it.
+     */
+    public record VerifiedToken(String subject, Date expiration, boolean refresh, String keyId) {
+
+        public boolean isExpired() {
+            return expiration.before(new Date());
+        }
     }
 
-    public String generateSecretKey() {
+    @Autowired
+    public JwtService(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        // the kid header picks a prebuilt key, so verifying costs no key decoding
+        parser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                Key key = keyRing.verificationKey(header.getKeyId());
+                if (key == null) {
+                    throw new SignatureException("Token signed with an unknown or retired key");
+                }
+                return key;
+            }
+        }).build();
+    }
+
+    public JwtService(String secretKey) {
+        this(JwtKeyRing.of(secretKey));
+    }
+
+    public static String generateSecretKey() {
         try {
             KeyGenerator keyGen = KeyGenerator.getInstance("HmacSHA256");
             SecretKey secretKey = keyGen.generateKey();
-            System.out.println("Secret Key : " + secretKey.toString());
             return Base64.getEncoder().encodeToString(secretKey.getEncoded());
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException("Error generating secret key", e);
         }
     }
 
+    /**
+     * Short-lived access token. The random id keeps tokens issued to the same
+     * user in the same second distinct, so logging one out does not revoke
+     * the others.
+     */
     public String generateToken(String username) {
 
         Map<String, Object> claims = new HashMap<>();
 
+        SigningKey signingKey = keyRing.signingKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 30))
-                .signWith(getKey(), SignatureAlgorithm.HS256).compact();
+                .setExpiration(new Date(System.currentTimeMillis() + accessTokenValidity.toMillis()))
+                .signWith(signingKey.key(), SignatureAlgorithm.HS256).compact();
 
     }
 
-    private Key getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Long-lived token that can only be exchanged at /token/refresh for a new
+     * access/refresh pair. The random id keeps every issued token distinct so
+     * a used one can be blacklisted without affecting its successor.
+     */
+    public String generateRefreshToken(String username) {
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
+
+        SigningKey signingKey = keyRing.signingKey();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(username)
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + refreshTokenValidity.toMillis()))
+                .signWith(signingKey.key(), SignatureAlgorithm.HS256).compact();
     }
 
-    public String extractUserName(String token) {
-        // extract the username from jwt token
-        return extractClaim(token, Claims::getSubject);
+    public Duration getAccessTokenValidity() {
+        return accessTokenValidity;
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
+    /**
+     * Verifies the token signature once and returns its subject and expiry.
+     * Repeated calls with the same token are served from a cache until the
+     * token expires, as long as the key that signed it is still in the ring;
+     * a retired key rejects its tokens even if they were verified before.
+     * Throws a JwtException if the token is invalid or expired.
+     */
+    public VerifiedToken verifyToken(String token) {
+        ByteBuffer digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified != null && !verified.isExpired()) {
+            if (keyRing.verificationKey(verified.keyId()) != null) {
+                return verified;
+            }
+            verifiedTokens.invalidate(digest);
+            throw new SignatureException("Token signed with an unknown or retired key");
+        }
+
+        Jws<Claims> jws = parser.parseClaimsJws(token);
+        Claims claims = jws.getBody();
+        verified = new VerifiedToken(claims.getSubject(), claims.getExpiration(),
+                REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM)), jws.getHeader().getKeyId());
+        verifiedTokens.put(digest, verified);
+        return verified;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build().parseClaimsJws(token).getBody();
+    public String extractUserName(String token) {
+        // extract the username from jwt token
+        return verifyToken(token).subject();
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(verifyToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // refresh tokens are never accepted as access tokens
+    public boolean validateToken(VerifiedToken token, UserDetails userDetails) {
+        return !token.refresh() && token.subject().equals(userDetails.getUsername()) && !token.isExpired();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verifyToken(token).expiration();
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
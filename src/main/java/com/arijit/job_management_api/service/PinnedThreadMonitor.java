@@ -0,0 +1,105 @@
+package com.arijit.job_management_api.service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier (inside
+ * synchronized, or in native code), which is what stops virtual threads
+ * from scaling. Listens to the JFR jdk.VirtualThreadPinned event in-process.
+ * Each occurrence is counted per application method, and the first stack
+ * for each method is logged.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "virtual-threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class PinnedThreadMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.arijit.";
+    private static final int REPORTED_FRAMES = 12;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Duration threshold;
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(@Value("${virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stream.close();
+    }
+
+    void onPinned(RecordedEvent event) {
+        String frame = applicationFrame(event);
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to a carrier thread")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .increment();
+        Timer.builder("jvm.threads.virtual.pinned.duration")
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedFrames.add(frame)) {
+            StringBuilder report = new StringBuilder("Virtual thread pinned for ")
+                    .append(event.getDuration().toMillis()).append(" ms at ").append(frame);
+            if (event.getStackTrace() != null) {
+                event.getStackTrace().getFrames().stream().limit(REPORTED_FRAMES).forEach(stackFrame -> report
+                        .append("\n\tat ").append(format(stackFrame)));
+            }
+            log.warn("{}", report);
+        }
+    }
+
+    // the innermost frame in our code, which is where a fix would go
+    private static String applicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(frame -> frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .orElse("outside application code");
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
@@ -0,0 +1,65 @@
+package com.arijit.job_management_api.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets per key using the generic cell rate algorithm: each key
+ * stores only its theoretical arrival time (TAT) in an AtomicLong, and a
+ * request is admitted with one compare-and-set when the TAT is no further
+ * ahead of now than the burst allows. Lookups of known keys do not lock or
+ * allocate.
+ *
+ * A bucket whose TAT has passed is full, which is the same as having no
+ * bucket, so idle keys can be evicted without changing any decision.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+        emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+    }
+
+    /**
+     * Takes a permit for {@code key}. Returns 0 if the request is admitted,
+     * otherwise the nanoseconds until the key's next request would be.
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+        while (true) {
+            long current = tat.get();
+            long start = Math.max(current, nowNanos);
+            long wait = start - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have refilled completely. A request racing with the
+     * removal may update the dropped bucket and get one extra permit.
+     */
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() <= nowNanos);
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
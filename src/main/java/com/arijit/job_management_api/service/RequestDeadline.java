@@ -0,0 +1,121 @@
+package com.arijit.job_management_api.service;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The point in time by which the current request must be answered, and the
+ * JDBC statements it has created so far.
+ *
+ * The deadline is bound to the request thread (and to tasks it hands to the
+ * MVC async executor); every statement created there is registered with it,
+ * gets the remaining time as its query timeout and is cancelled when the
+ * request expires or is abandoned, so a query never outlives the request
+ * that asked for it.
+ */
+public class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> current = new ThreadLocal<>();
+
+    // closed statements are dropped once this many are registered
+    private static final int PRUNE_THRESHOLD = 32;
+
+    private final long deadlineNanos;
+    private final List<Statement> statements = new ArrayList<>();
+    private boolean expired;
+
+    public RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * The deadline of the request handled by this thread, or null if it has none.
+     */
+    public static RequestDeadline current() {
+        return current.get();
+    }
+
+    /**
+     * Binds {@code deadline} to this thread (null unbinds) and returns the one
+     * bound before.
+     */
+    public static RequestDeadline bind(RequestDeadline deadline) {
+        RequestDeadline previous = current.get();
+        if (deadline == null) {
+            current.remove();
+        } else {
+            current.set(deadline);
+        }
+        return previous;
+    }
+
+    public long remainingNanos(long nowNanos) {
+        return deadlineNanos - nowNanos;
+    }
+
+    public synchronized boolean isExpired() {
+        return expired || remainingNanos(System.nanoTime()) <= 0;
+    }
+
+    /**
+     * Applies the remaining time to {@code statement} as its query timeout and
+     * tracks it for cancellation. Throws SQLTimeoutException, after closing
+     * the statement, if the request has no time left.
+     */
+    public void register(Statement statement) throws SQLException {
+        long remaining = remainingNanos(System.nanoTime());
+        synchronized (this) {
+            if (!expired && remaining > 0) {
+                if (statements.size() >= PRUNE_THRESHOLD) {
+                    statements.removeIf(RequestDeadline::isClosed);
+                }
+                statements.add(statement);
+            } else {
+                remaining = 0;
+            }
+        }
+        if (remaining <= 0) {
+            statement.close();
+            throw new SQLTimeoutException("Request deadline exceeded");
+        }
+        // whole seconds, rounded up; cancel() is what enforces the exact deadline
+        statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, (remaining + 999_999_999L) / 1_000_000_000L));
+    }
+
+    /**
+     * Marks the request expired and cancels its statements that are still
+     * open. Returns how many were cancelled; statements created afterwards
+     * are refused.
+     */
+    public int cancel() {
+        List<Statement> open;
+        synchronized (this) {
+            expired = true;
+            open = new ArrayList<>(statements);
+            statements.clear();
+        }
+        int cancelled = 0;
+        for (Statement statement : open) {
+            if (!isClosed(statement)) {
+                try {
+                    statement.cancel();
+                    cancelled++;
+                } catch (SQLException e) {
+                    // closed concurrently; nothing left to cancel
+                }
+            }
+        }
+        return cancelled;
+    }
+
+    private static boolean isClosed(Statement statement) {
+        try {
+            return statement.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+}
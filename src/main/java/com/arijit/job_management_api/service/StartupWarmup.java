@@ -0,0 +1,208 @@
+package com.arijit.job_management_api.service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.arijit.job_management_api.model.JobPage;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.repository.JobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Exercises the request hot paths once the context has started, so the first
+ * real requests do not pay for class loading, JIT compilation, Hibernate
+ * query plans and opening connections. Runs as an ApplicationRunner, which
+ * Spring Boot completes before it reports readiness (ACCEPTING_TRAFFIC).
+ *
+ * Each step repeats until it has done warmup.iterations or used its share of
+ * warmup.budget, whichever comes first, and logs what it did. A step that
+ * fails is logged and skipped; it never stops the application from starting.
+ */
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true")
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String USERNAME = "warmup";
+    private static final int PAGE_SIZE = 100;
+    private static final int SEARCH_TERMS = 20;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Duration budget;
+    private final int iterations;
+    private final int preloadJobs;
+
+    public StartupWarmup(@Value("${warmup.budget:20s}") Duration budget,
+                         @Value("${warmup.iterations:2000}") int iterations,
+                         @Value("${warmup.preload-jobs:1000}") int preloadJobs) {
+        this.budget = budget;
+        this.iterations = iterations;
+        this.preloadJobs = preloadJobs;
+    }
+
+    private interface Iteration {
+        void run(int i) throws Exception;
+    }
+
+    private record Step(String name, Iteration iteration) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+
+        try {
+            openPool();
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Warm-up could not open the connection pool", e);
+        }
+        List<JobPost> hotJobs = preloadJobs(deadline);
+        List<Integer> ids = hotJobs.isEmpty() ? List.of(1) : hotJobs.stream().map(JobPost::getPostId).toList();
+        List<String> terms = jobService.suggest("", SEARCH_TERMS).stream()
+                .map(suggestion -> suggestion.text().toLowerCase(Locale.ROOT))
+                .toList();
+        List<String> searchTerms = terms.isEmpty() ? List.of("engineer") : terms;
+
+        List<JobPost> page = hotJobs.subList(0, Math.min(PAGE_SIZE, hotJobs.size()));
+        List<Step> steps = List.of(
+                new Step("tokens", i -> {
+                    jwtService.verifyToken(jwtService.generateToken(USERNAME));
+                    jwtService.verifyToken(jwtService.generateRefreshToken(USERNAME));
+                }),
+                new Step("serialization", i -> {
+                    objectMapper.writeValueAsBytes(page);
+                    objectMapper.writeValueAsBytes(page.isEmpty() ? new JobPost() : page.get(i % page.size()));
+                }),
+                new Step("reads", i -> {
+                    int id = ids.get(i % ids.size());
+                    jobService.getJob(id);
+                    jobRepository.findWithSkillsById(id);
+                    objectMapper.writeValueAsBytes(jobService.getJobsPage(Math.max(id, JobPage.START + 1) - 1, PAGE_SIZE));
+                }),
+                new Step("search", i -> {
+                    String term = searchTerms.get(i % searchTerms.size());
+                    jobService.searchIds(term, 50);
+                    jobService.suggest(term.substring(0, 1 + i % term.length()), 10);
+                    jobService.filter(List.of(term), null, null, null, 100);
+                }));
+
+        // each step gets an equal share of what is left, so a slow step does not starve the rest
+        for (int i = 0; i < steps.size(); i++) {
+            long share = Math.max(0, deadline - System.nanoTime()) / (steps.size() - i);
+            repeat(steps.get(i), System.nanoTime() + share);
+        }
+        log.info("Warm-up finished in {} ms", elapsedMillis("total", start));
+    }
+
+    /**
+     * Holds as many connections as the pool keeps idle so all of them are
+     * opened now rather than by the first requests.
+     */
+    private void openPool() throws SQLException {
+        long start = System.nanoTime();
+        int size = dataSource.isWrapperFor(HikariDataSource.class)
+                ? dataSource.unwrap(HikariDataSource.class).getMinimumIdle() : 1;
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        log.info("Warm-up pool: opened {} connections in {} ms", size, elapsedMillis("pool", start));
+    }
+
+    /**
+     * Loads up to warmup.preload-jobs posts, in id order, into the job cache.
+     */
+    private List<JobPost> preloadJobs(long deadline) {
+        long start = System.nanoTime();
+        List<JobPost> loaded = new ArrayList<>();
+        int after = JobPage.START;
+        while (loaded.size() < preloadJobs && System.nanoTime() < deadline) {
+            JobPage<JobPost> page = jobService.getJobsPage(after, Math.min(PAGE_SIZE, preloadJobs - loaded.size()));
+            jobCache.indexAll(page.items());
+            loaded.addAll(page.items());
+            if (page.nextAfter() == null) {
+                break;
+            }
+            after = page.nextAfter();
+        }
+        log.info("Warm-up preload: cached {} job posts in {} ms", loaded.size(), elapsedMillis("preload", start));
+        return loaded;
+    }
+
+    private void repeat(Step step, long deadline) {
+        long start = System.nanoTime();
+        int done = 0;
+        try {
+            while (done < iterations && System.nanoTime() < deadline) {
+                step.iteration().run(done++);
+            }
+        } catch (Exception e) {
+            // a failed warm-up only means a slower start, so carry on
+            log.warn("Warm-up {} failed after {} iterations", step.name(), done, e);
+            return;
+        }
+        log.info("Warm-up {}: {} iterations in {} ms", step.name(), done, elapsedMillis(step.name(), start));
+    }
+
+    /**
+     * Records the step in the application.warmup timer and returns its
+     * duration for the log.
+     */
+    private long elapsedMillis(String step, long start) {
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("application.warmup")
+                .description("Time spent on each startup warm-up step")
+                .tag("step", step)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        return TimeUnit.NANOSECONDS.toMillis(elapsed);
+    }
+}
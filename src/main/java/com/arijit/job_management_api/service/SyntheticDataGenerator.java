@@ -0,0 +1,371 @@
+package com.arijit.job_management_api.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.arijit.job_management_api.model.JobImportResult;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.SyntheticDataResult;
+import com.arijit.job_management_api.repository.JobRepository;
+import com.arijit.job_management_api.repository.UserRepo;
+
+/**
+ * Reproducible data sets of any size for local benchmarks and capacity
+ * planning.
+ *
+ * Every post is a pure function of (seed, postId): its random stream is
+ * seeded from both, so the same seed gives the same rows however the work is
+ * split. Skills and roles are drawn from Zipf distributions (a few very
+ * common, a long tail of rare ones), required experience is skewed towards
+ * junior and mid levels, and description lengths are log-normal up to the
+ * 255 characters the column holds.
+ *
+ * The id range is split into contiguous slices written in parallel, each
+ * through JobImportService in batched, chunked transactions, so the indexes
+ * and the change log see the posts as they would any import. Users share one
+ * password hash, computed once, and are batch inserted with JDBC; each
+ * batch then evicts its usernames from the UserDetailsServiceImpl cache,
+ * as UserService does for a single user.
+ */
+@Service
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    public static final String USER_PREFIX = "synthetic-user-";
+    public static final String PASSWORD = "synthetic-password";
+
+    // postDesc is a plain VARCHAR(255) column
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private static final String INSERT_USER = "INSERT INTO users (username, password) VALUES (?, ?)";
+
+    private static final String[] SKILLS = {"Java", "SQL", "Python", "JavaScript", "AWS", "Spring", "Docker",
+            "Kubernetes", "React", "TypeScript", "Git", "Linux", "PostgreSQL", "REST", "Go", "Kafka", "Terraform",
+            "CI/CD", "Node.js", "C#", ".NET", "Azure", "GCP", "Microservices", "Redis", "MongoDB", "Scala", "Kotlin",
+            "Angular", "Vue", "Spark", "Hadoop", "Airflow", "Machine Learning", "TensorFlow", "PyTorch", "Pandas",
+            "C++", "Rust", "GraphQL", "gRPC", "Elasticsearch", "Prometheus", "Grafana", "Ansible", "Jenkins",
+            "Swift", "Android", "iOS", "Flutter", "HTML", "CSS", "Figma", "UI/UX Design", "Selenium", "Cypress",
+            "JUnit", "Hibernate", "MySQL", "Oracle", "Snowflake", "dbt", "Tableau", "Power BI", "Excel", "R",
+            "Statistics", "NLP", "Computer Vision", "Cassandra", "DynamoDB", "RabbitMQ", "Nginx", "Bash",
+            "PowerShell", "Cisco", "Routing", "Firewalls", "Networking", "Security", "OAuth", "Penetration Testing",
+            "SIEM", "Agile", "Scrum", "Jira", "Product Management", "Technical Writing", "Salesforce", "SAP",
+            "Ruby", "Rails", "PHP", "Laravel", "Django", "Flask", "FastAPI", "Haskell", "Elixir", "Erlang",
+            "Clojure", "Unity", "Unreal Engine", "Embedded C", "RTOS", "FPGA", "Verilog", "MATLAB", "Solidity"};
+
+    private static final String[] ROLES = {"Software Engineer", "Backend Developer", "Frontend Developer",
+            "Full Stack Developer", "Data Engineer", "Data Scientist", "DevOps Engineer", "Site Reliability Engineer",
+            "Mobile Developer", "QA Engineer", "Machine Learning Engineer", "Cloud Architect", "Data Analyst",
+            "Security Engineer", "Platform Engineer", "Engineering Manager", "Network Engineer", "UX Designer",
+            "Product Manager", "Database Administrator", "Solutions Architect", "Embedded Engineer",
+            "Game Developer", "Technical Writer", "Business Analyst", "Support Engineer", "Systems Administrator",
+            "Blockchain Developer", "Research Scientist", "Release Engineer"};
+
+    private static final String[] WORDS = {"we", "are", "looking", "for", "a", "an", "the", "to", "and", "with",
+            "in", "of", "on", "our", "team", "you", "will", "build", "design", "maintain", "scalable", "reliable",
+            "services", "platform", "customers", "product", "experience", "work", "closely", "across", "teams",
+            "own", "features", "end", "production", "systems", "data", "pipelines", "applications", "quality",
+            "performance", "remote", "hybrid", "office", "growth", "mentoring", "engineers", "code", "reviews",
+            "testing", "deploy", "monitor", "improve", "collaborate", "stakeholders", "roadmap", "fast", "paced",
+            "startup", "enterprise", "global", "clients", "benefits", "salary", "equity", "learning", "budget",
+            "flexible", "hours", "ownership", "impact", "architecture", "infrastructure", "cloud", "security",
+            "users", "millions", "requests", "latency", "availability", "strong", "communication", "skills",
+            "degree", "years", "preferred", "required", "bonus", "plus", "opportunity", "join", "mission"};
+
+    private static final double[] SKILL_CDF = zipfCdf(SKILLS.length, 1.1);
+    private static final double[] ROLE_CDF = zipfCdf(ROLES.length, 0.9);
+    private static final double[] WORD_CDF = zipfCdf(WORDS.length, 1.0);
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BCryptPasswordEncoder encoder;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    private final int threads;
+    private final int batchSize;
+    private final long progressIntervalMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SyntheticDataGenerator(@Value("${synthetic-data.threads:4}") int threads,
+                                  @Value("${jobs.import.chunk-size:500}") int batchSize,
+                                  @Value("${synthetic-data.progress-interval-ms:5000}") long progressIntervalMillis) {
+        this.threads = Math.max(1, threads);
+        this.batchSize = batchSize;
+        this.progressIntervalMillis = progressIntervalMillis;
+    }
+
+    /**
+     * Writes {@code jobs} posts with ids from {@code firstId} and {@code users}
+     * users named synthetic-user-1 onwards, all with {@link #PASSWORD}.
+     * Refuses to overwrite: if any of those ids or usernames already exist,
+     * nothing is written.
+     *
+     * @throws IllegalArgumentException if the counts or the id are out of range
+     * @throws IllegalStateException if the rows exist or a generation is already running
+     */
+    public SyntheticDataResult generate(int jobs, int users, long seed, int firstId) {
+        if (jobs < 0 || users < 0 || firstId < 1 || (long) firstId + jobs - 1 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("jobs and users must not be negative, and ids must fit in 1.."
+                    + Integer.MAX_VALUE);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A synthetic data generation is already running");
+        }
+        try {
+            checkNotPresent(jobs, users, firstId);
+            return write(jobs, users, seed, firstId);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void checkNotPresent(int jobs, int users, int firstId) {
+        List<Integer> existing = jobRepository.findIdsAfter(firstId - 1, Limit.of(1));
+        if (jobs > 0 && !existing.isEmpty() && existing.get(0) < firstId + jobs) {
+            throw new IllegalStateException("Job post " + existing.get(0) + " already exists; pick another firstId");
+        }
+        if (users > 0 && (userRepo.findByUsername(username(1)) != null
+                || userRepo.findByUsername(username(users)) != null)) {
+            throw new IllegalStateException("Synthetic users already exist");
+        }
+    }
+
+    private SyntheticDataResult write(int jobs, int users, long seed, int firstId) {
+        long start = System.nanoTime();
+        log.info("Generating {} job posts from id {} and {} users with seed {} on {} threads",
+                jobs, firstId, users, seed, threads);
+        String passwordHash = encoder.encode(PASSWORD);
+        AtomicLong generatedJobs = new AtomicLong();
+        AtomicLong writtenUsers = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<JobImportResult>> jobSlices = new ArrayList<>();
+            for (int[] slice : slices(jobs, threads)) {
+                Iterator<JobPost> posts = posts(seed, firstId + slice[0], slice[1], generatedJobs);
+                jobSlices.add(CompletableFuture.supplyAsync(() -> jobImportService.importJobs(posts, false), executor));
+            }
+            List<CompletableFuture<Void>> userSlices = new ArrayList<>();
+            for (int[] slice : slices(users, threads)) {
+                userSlices.add(CompletableFuture.runAsync(
+                        () -> insertUsers(slice[0] + 1, slice[1], passwordHash, writtenUsers), executor));
+            }
+
+            List<CompletableFuture<?>> all = new ArrayList<>(jobSlices);
+            all.addAll(userSlices);
+            awaitWithProgress(CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)), start,
+                    generatedJobs, jobs, writtenUsers, users);
+
+            int imported = 0;
+            int failed = 0;
+            for (CompletableFuture<JobImportResult> slice : jobSlices) {
+                JobImportResult result = slice.join();
+                imported += result.getImported();
+                failed += result.getFailed();
+                if (!result.getErrors().isEmpty()) {
+                    log.warn("Synthetic post {} failed: {}", result.getErrors().get(0).postId(),
+                            result.getErrors().get(0).message());
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            long records = imported + writtenUsers.get();
+            SyntheticDataResult result = new SyntheticDataResult(seed, imported, failed, (int) writtenUsers.get(),
+                    elapsedNanos / 1_000_000, elapsedNanos == 0 ? 0 : records * 1_000_000_000L / elapsedNanos);
+            log.info("Generated {} job posts ({} failed) and {} users in {} ms, {} records/s", result.jobs(),
+                    result.failed(), result.users(), result.elapsedMillis(), result.recordsPerSecond());
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void awaitWithProgress(CompletableFuture<Void> done, long start, AtomicLong jobsSoFar, int jobs,
+                                   AtomicLong usersSoFar, int users) {
+        while (true) {
+            try {
+                done.get(progressIntervalMillis, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException e) {
+                long elapsedNanos = System.nanoTime() - start;
+                long records = jobsSoFar.get() + usersSoFar.get();
+                log.info("Generated {} of {} job posts and {} of {} users, {} records/s", jobsSoFar.get(), jobs,
+                        usersSoFar.get(), users, records * 1_000_000_000L / elapsedNanos);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException failure) {
+                    throw failure;
+                }
+                throw new IllegalStateException("Synthetic data generation failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while generating synthetic data", e);
+            }
+        }
+    }
+
+    private void insertUsers(int first, int count, String passwordHash, AtomicLong written) {
+        for (int offset = 0; offset < count; offset += batchSize) {
+            int from = first + offset;
+            int size = Math.min(batchSize, count - offset);
+            jdbcTemplate.batchUpdate(INSERT_USER, numbers(from, size), size, (statement, n) -> {
+                statement.setString(1, username(n));
+                statement.setString(2, passwordHash);
+            });
+            // these rows skip UserService, so drop any cached "no such user" for them here
+            for (int n = from; n < from + size; n++) {
+                userDetailsService.invalidate(username(n));
+            }
+            written.addAndGet(size);
+        }
+    }
+
+    public static String username(int n) {
+        return USER_PREFIX + n;
+    }
+
+    /**
+     * The post generated for {@code postId} under {@code seed}; always the same.
+     */
+    public static JobPost job(long seed, int postId) {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + postId);
+        int experience = (int) Math.min(20, -Math.log(1 - random.nextDouble()) * 4);
+        String profile = seniority(experience, random) + ROLES[draw(ROLE_CDF, random)];
+
+        int skillCount = 1 + random.nextInt(4) + random.nextInt(4);
+        Set<String> skills = new LinkedHashSet<>();
+        while (skills.size() < skillCount) {
+            skills.add(SKILLS[draw(SKILL_CDF, random)]);
+        }
+
+        // log-normal around 22 words, cut at the last whole word that fits the column
+        int words = (int) Math.max(5, Math.exp(Math.log(22) + 0.5 * random.nextGaussian()));
+        StringBuilder description = new StringBuilder(MAX_DESCRIPTION_LENGTH);
+        List<String> skillList = new ArrayList<>(skills);
+        for (int i = 0; i < words; i++) {
+            String word = random.nextInt(10) == 0 ? skillList.get(random.nextInt(skillList.size()))
+                    : WORDS[draw(WORD_CDF, random)];
+            boolean sentenceStart = i % 12 == 0;
+            String next = (i == 0 ? "" : sentenceStart ? ". " : " ")
+                    + (sentenceStart ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+            if (description.length() + next.length() + 1 > MAX_DESCRIPTION_LENGTH) {
+                break;
+            }
+            description.append(next);
+        }
+        description.append('.');
+        return new JobPost(postId, profile, description.toString(), experience, skillList);
+    }
+
+    private static Iterator<JobPost> posts(long seed, int firstId, int count, AtomicLong generated) {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public JobPost next() {
+                if (next >= count) {
+                    throw new NoSuchElementException();
+                }
+                generated.incrementAndGet();
+                return job(seed, firstId + next++);
+            }
+        };
+    }
+
+    private static String seniority(int experience, SplittableRandom random) {
+        if (experience < 2) {
+            return random.nextBoolean() ? "Junior " : "";
+        }
+        if (experience < 6) {
+            return "";
+        }
+        if (experience < 10) {
+            return "Senior ";
+        }
+        return random.nextBoolean() ? "Staff " : "Principal ";
+    }
+
+    // [offset, count] pairs covering 0..total in at most n contiguous slices
+    private static List<int[]> slices(int total, int n) {
+        List<int[]> slices = new ArrayList<>();
+        int size = (total + n - 1) / n;
+        for (int offset = 0; offset < total; offset += size) {
+            slices.add(new int[] {offset, Math.min(size, total - offset)});
+        }
+        return slices;
+    }
+
+    private static List<Integer> numbers(int from, int count) {
+        List<Integer> numbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            numbers.add(from + i);
+        }
+        return numbers;
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int draw(double[] cdf, SplittableRandom random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,60 +1,148 @@
 package com.arijit.job_management_api.service;
 
-import java.util.Date;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.arijit.job_management_api.model.RevokedToken;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Token blacklist. Lookups only touch the local TokenDigestSet; when a
+ * TokenBlacklistStore is configured, revocations are written through to it
+ * and other nodes' revocations are pulled in by version on a schedule.
+ */
 @Service
 public class TokenBlacklistService {
 
-    private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
+    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
+
+    private static final int SWEEP_BATCH_SIZE = 10_000;
+
+    private final TokenDigestSet blacklistedTokens;
+    private final int syncBatchSize;
+    // a version gap younger than this may still be an uncommitted insert on another node
+    private final Duration gapSettle;
 
     @Autowired
     private JwtService jwtService;
 
-    public void blacklistToken(String token) {
+    @Autowired(required = false)
+    private TokenBlacklistStore store;
+
+    // every store version up to here has been applied locally
+    private long syncedVersion;
+
+    public record BlacklistSize(int local, Long store) {
+    }
+
+    public TokenBlacklistService(@Value("${blacklist.bloom-filter.enabled:true}") boolean bloomFilterEnabled,
+                                 @Value("${blacklist.sync-batch-size:1000}") int syncBatchSize,
+                                 @Value("${blacklist.gap-settle:5s}") Duration gapSettle) {
+        blacklistedTokens = new TokenDigestSet(bloomFilterEnabled);
+        this.syncBatchSize = syncBatchSize;
+        this.gapSettle = gapSettle;
+    }
+
+    @PostConstruct
+    void loadFromStore() {
+        if (store != null) {
+            syncFromStore();
+            log.info("Token blacklist loaded {} revocations from store", blacklistedTokens.size());
+        }
+    }
+
+    /**
+     * Revokes the token until it expires. Returns false if it was already
+     * revoked, or is invalid or expired. With a store, "already revoked" is
+     * decided by the store, so only one node can revoke a token first.
+     */
+    public boolean blacklistToken(String token) {
         if (token != null && !token.trim().isEmpty()) {
-            blacklistedTokens.add(token);
-            System.out.println("Token blacklisted successfully. Total blacklisted tokens: " + blacklistedTokens.size());
+            long expiresAt;
+            try {
+                expiresAt = jwtService.extractExpiration(token).getTime();
+            } catch (JwtException | IllegalArgumentException e) {
+                // expired or invalid tokens are already rejected, nothing to remember
+                log.debug("Token not blacklisted, it is already invalid: {}", e.getMessage());
+                return false;
+            }
+            long hi = TokenDigestSet.hashHi(token);
+            long lo = TokenDigestSet.hashLo(token);
+            // the store's answer wins: a sync may already have brought this node's own append in
+            boolean first = store != null && store.append(hi, lo, expiresAt) != TokenBlacklistStore.ALREADY_REVOKED;
+            boolean added = blacklistedTokens.add(hi, lo, expiresAt);
+            log.debug("Token blacklisted, {} tokens now blacklisted", blacklistedTokens.size());
+            return store != null ? first : added;
         }
+        return false;
     }
 
     public boolean isTokenBlacklisted(String token) {
         return blacklistedTokens.contains(token);
     }
 
-    public void cleanupExpiredTokens() {
-        int initialSize = blacklistedTokens.size();
-
-        blacklistedTokens.removeIf(token -> {
-            try {
-                // Extract expiration date from token
-                Date expiration = jwtService.extractExpiration(token);
-                // Remove if token has expired
-                return expiration.before(new Date());
-            } catch (Exception e) {
-                // If token parsing fails, remove it from blacklist
-                System.out.println("Invalid token found in blacklist, removing: " + e.getMessage());
-                return true;
+    @Scheduled(fixedDelayString = "${blacklist.sync-interval-ms:1000}")
+    public void syncFromStore() {
+        if (store == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        // revokedAt comes from the store's clock, so the gap is judged by it too
+        long settled = store.currentTimeMillis() - gapSettle.toMillis();
+        List<RevokedToken> batch;
+        boolean contiguous = true;
+        do {
+            batch = store.fetchSince(syncedVersion, syncBatchSize);
+            for (RevokedToken revoked : batch) {
+                if (revoked.getExpiresAt() > now) {
+                    blacklistedTokens.add(revoked.getDigestHi(), revoked.getDigestLo(), revoked.getExpiresAt());
+                }
+                // re-reading from a recent gap next time is harmless, adds are idempotent
+                if (contiguous && (revoked.getVersion() == syncedVersion + 1
+                        || revoked.getRevokedAt() < settled)) {
+                    syncedVersion = revoked.getVersion();
+                } else {
+                    contiguous = false;
+                }
             }
-        });
+        } while (contiguous && batch.size() == syncBatchSize);
+    }
 
-        int cleanedUp = initialSize - blacklistedTokens.size();
+    @Scheduled(fixedDelayString = "${blacklist.sweep-interval-ms:1000}")
+    public void sweepExpiredTokens() {
+        blacklistedTokens.sweep(System.currentTimeMillis(), SWEEP_BATCH_SIZE);
+    }
+
+    @Scheduled(fixedDelayString = "${blacklist.store-purge-interval-ms:60000}")
+    public void purgeExpiredFromStore() {
+        if (store != null) {
+            store.purgeExpired(System.currentTimeMillis());
+        }
+    }
+
+    public void cleanupExpiredTokens() {
+        int cleanedUp = blacklistedTokens.sweep(System.currentTimeMillis(), Integer.MAX_VALUE);
         if (cleanedUp > 0) {
-            System.out.println("Cleaned up " + cleanedUp + " expired tokens from blacklist");
+            log.info("Cleaned up {} expired tokens from blacklist", cleanedUp);
         }
     }
 
-    public int getBlacklistSize() {
-        return blacklistedTokens.size();
+    public BlacklistSize getBlacklistSize() {
+        return new BlacklistSize(blacklistedTokens.size(), store != null ? store.size() : null);
     }
 
     public void clearBlacklist() {
         int size = blacklistedTokens.size();
         blacklistedTokens.clear();
-        System.out.println("Cleared " + size + " tokens from blacklist");
+        log.info("Cleared {} tokens from blacklist", size);
     }
 }
@@ -0,0 +1,39 @@
+package com.arijit.job_management_api.service;
+
+import java.util.List;
+
+import com.arijit.job_management_api.model.RevokedToken;
+
+/**
+ * Durable, shared record of revoked token digests. Every node appends its own
+ * logouts and pulls everyone else's by version into its local blacklist.
+ */
+public interface TokenBlacklistStore {
+
+    /**
+     * Returned by {@link #append} when the digest is already stored.
+     */
+    long ALREADY_REVOKED = 0;
+
+    /**
+     * Persists a revocation and returns the version assigned to it, or
+     * {@link #ALREADY_REVOKED} if some node has revoked the token before.
+     */
+    long append(long digestHi, long digestLo, long expiresAt);
+
+    /**
+     * Returns up to {@code limit} revocations with a version greater than
+     * {@code afterVersion}, in version order.
+     */
+    List<RevokedToken> fetchSince(long afterVersion, int limit);
+
+    /**
+     * Now, on the clock that stamps revokedAt. Every node sharing the store
+     * must read the same clock.
+     */
+    long currentTimeMillis();
+
+    long size();
+
+    int purgeExpired(long now);
+}
@@ -0,0 +1,297 @@
+package com.arijit.job_management_api.service;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Compact set of revoked token digests with their expiry times.
+ *
+ * Each token is reduced to a 128-bit hash stored in one flat long[] (hi, lo,
+ * expiry per slot, linear probing), so a lookup hashes the token's chars and
+ * probes the table under an optimistic read without allocating. An optional
+ * Bloom filter answers the common "not revoked" case before the table is
+ * touched. Entries are removed in expiry order from a priority queue, a batch
+ * at a time.
+ *
+ * The hash is not cryptographic: a collision can only make a token look
+ * revoked, never make an invalid token acceptable.
+ */
+public class TokenDigestSet {
+
+    private static final int SLOT_WIDTH = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int BLOOM_BITS_PER_SLOT = 8;
+    private static final int BLOOM_HASHES = 3;
+
+    private static final long SEED_HI = 0xcbf29ce484222325L;
+    private static final long PRIME_HI = 0x100000001b3L;
+    private static final long SEED_LO = 0x84222325cbf29ce4L;
+    private static final long PRIME_LO = 0x9e3779b97f4a7c15L;
+
+    private record Pending(long expiresAt, long hi, long lo) {
+    }
+
+    private final StampedLock lock = new StampedLock();
+    private final boolean bloomEnabled;
+
+    // slot i occupies [3i, 3i + 2] = hi, lo, expiresAt; expiresAt == 0 marks a free slot
+    private long[] table = new long[INITIAL_CAPACITY * SLOT_WIDTH];
+    private int capacity = INITIAL_CAPACITY;
+    private int size;
+
+    private volatile AtomicLongArray bloom;
+    private int removedSinceBloomRebuild;
+
+    private final PriorityQueue<Pending> expiryQueue = new PriorityQueue<>(Comparator.comparingLong(Pending::expiresAt));
+
+    public TokenDigestSet(boolean bloomEnabled) {
+        this.bloomEnabled = bloomEnabled;
+        if (bloomEnabled) {
+            bloom = new AtomicLongArray(bloomWords(capacity));
+        }
+    }
+
+    public static long hashHi(CharSequence token) {
+        return hash(token, SEED_HI, PRIME_HI);
+    }
+
+    public static long hashLo(CharSequence token) {
+        return hash(token, SEED_LO, PRIME_LO);
+    }
+
+    public boolean contains(CharSequence token) {
+        return contains(hashHi(token), hashLo(token));
+    }
+
+    public boolean contains(long hi, long lo) {
+        AtomicLongArray bits = bloom;
+        if (bits != null && !mightContain(bits, hi, lo)) {
+            return false;
+        }
+
+        long stamp = lock.tryOptimisticRead();
+        boolean found = probe(table, hi, lo);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = probe(table, hi, lo);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds a digest, or extends its expiry if already present. Returns true if
+     * it was not present before.
+     */
+    public boolean add(long hi, long lo, long expiresAt) {
+        if (expiresAt <= 0) {
+            throw new IllegalArgumentException("expiresAt must be positive");
+        }
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2 > capacity) {
+                resize(capacity * 2);
+            }
+            int mask = capacity - 1;
+            for (int i = home(hi, mask); ; i = (i + 1) & mask) {
+                int base = i * SLOT_WIDTH;
+                if (table[base + 2] == 0) {
+                    table[base] = hi;
+                    table[base + 1] = lo;
+                    table[base + 2] = expiresAt;
+                    size++;
+                    expiryQueue.add(new Pending(expiresAt, hi, lo));
+                    if (bloom != null) {
+                        setBloomBits(bloom, hi, lo);
+                    }
+                    return true;
+                }
+                if (table[base] == hi && table[base + 1] == lo) {
+                    if (expiresAt > table[base + 2]) {
+                        table[base + 2] = expiresAt;
+                        expiryQueue.add(new Pending(expiresAt, hi, lo));
+                    }
+                    return false;
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes up to {@code maxRemovals} entries that expired at or before
+     * {@code now}, earliest first. Returns the number removed.
+     */
+    public int sweep(long now, int maxRemovals) {
+        long stamp = lock.writeLock();
+        try {
+            int removed = 0;
+            while (removed < maxRemovals && !expiryQueue.isEmpty() && expiryQueue.peek().expiresAt() <= now) {
+                Pending pending = expiryQueue.poll();
+                int slot = find(pending.hi(), pending.lo());
+                // a later add may have extended the expiry; that add queued its own entry
+                if (slot >= 0 && table[slot * SLOT_WIDTH + 2] <= now) {
+                    deleteSlot(slot);
+                    removed++;
+                }
+            }
+            removedSinceBloomRebuild += removed;
+            if (bloomEnabled && removedSinceBloomRebuild > size) {
+                rebuildBloom();
+            }
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            capacity = INITIAL_CAPACITY;
+            table = new long[capacity * SLOT_WIDTH];
+            size = 0;
+            expiryQueue.clear();
+            rebuildBloom();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static boolean probe(long[] table, long hi, long lo) {
+        int slots = table.length / SLOT_WIDTH;
+        int mask = slots - 1;
+        int i = home(hi, mask);
+        for (int n = 0; n < slots; n++, i = (i + 1) & mask) {
+            int base = i * SLOT_WIDTH;
+            if (table[base + 2] == 0) {
+                return false;
+            }
+            if (table[base] == hi && table[base + 1] == lo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int find(long hi, long lo) {
+        int mask = capacity - 1;
+        for (int i = home(hi, mask); ; i = (i + 1) & mask) {
+            int base = i * SLOT_WIDTH;
+            if (table[base + 2] == 0) {
+                return -1;
+            }
+            if (table[base] == hi && table[base + 1] == lo) {
+                return i;
+            }
+        }
+    }
+
+    // backward-shift deletion keeps probe chains intact without tombstones
+    private void deleteSlot(int slot) {
+        int mask = capacity - 1;
+        int hole = slot;
+        for (int j = (hole + 1) & mask; table[j * SLOT_WIDTH + 2] != 0; j = (j + 1) & mask) {
+            int home = home(table[j * SLOT_WIDTH], mask);
+            boolean stays = hole <= j ? (hole < home && home <= j) : (hole < home || home <= j);
+            if (!stays) {
+                System.arraycopy(table, j * SLOT_WIDTH, table, hole * SLOT_WIDTH, SLOT_WIDTH);
+                hole = j;
+            }
+        }
+        int base = hole * SLOT_WIDTH;
+        table[base] = 0;
+        table[base + 1] = 0;
+        table[base + 2] = 0;
+        size--;
+    }
+
+    private void resize(int newCapacity) {
+        long[] old = table;
+        table = new long[newCapacity * SLOT_WIDTH];
+        capacity = newCapacity;
+        int mask = newCapacity - 1;
+        for (int base = 0; base < old.length; base += SLOT_WIDTH) {
+            if (old[base + 2] != 0) {
+                int i = home(old[base], mask);
+                while (table[i * SLOT_WIDTH + 2] != 0) {
+                    i = (i + 1) & mask;
+                }
+                System.arraycopy(old, base, table, i * SLOT_WIDTH, SLOT_WIDTH);
+            }
+        }
+        rebuildBloom();
+    }
+
+    private void rebuildBloom() {
+        removedSinceBloomRebuild = 0;
+        if (!bloomEnabled) {
+            return;
+        }
+        AtomicLongArray bits = new AtomicLongArray(bloomWords(capacity));
+        for (int base = 0; base < table.length; base += SLOT_WIDTH) {
+            if (table[base + 2] != 0) {
+                setBloomBits(bits, table[base], table[base + 1]);
+            }
+        }
+        bloom = bits;
+    }
+
+    private static int bloomWords(int capacity) {
+        return Math.max(1, capacity * BLOOM_BITS_PER_SLOT / Long.SIZE);
+    }
+
+    private static boolean mightContain(AtomicLongArray bits, long hi, long lo) {
+        long bitCount = (long) bits.length() * Long.SIZE;
+        for (int k = 0; k < BLOOM_HASHES; k++) {
+            long bit = Math.floorMod(hi + k * lo, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void setBloomBits(AtomicLongArray bits, long hi, long lo) {
+        long bitCount = (long) bits.length() * Long.SIZE;
+        for (int k = 0; k < BLOOM_HASHES; k++) {
+            long bit = Math.floorMod(hi + k * lo, bitCount);
+            int word = (int) (bit >>> 6);
+            bits.set(word, bits.get(word) | (1L << bit));
+        }
+    }
+
+    private static int home(long hi, int mask) {
+        return (int) (hi ^ (hi >>> 32)) & mask;
+    }
+
+    // FNV-1a style pass over the chars followed by the murmur3 finalizer
+    private static long hash(CharSequence token, long seed, long prime) {
+        long h = seed;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= prime;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
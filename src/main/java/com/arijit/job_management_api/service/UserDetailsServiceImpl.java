@@ -1,7 +1,11 @@
 package com.arijit.job_management_api.service;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -9,23 +13,86 @@ import org.springframework.stereotype.Service;
 import com.arijit.job_management_api.model.User;
 import com.arijit.job_management_api.model.UserPrincipal;
 import com.arijit.job_management_api.repository.UserRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 
+/**
+ * Loads users for authentication. Principals are cached for a short TTL and
+ * unknown usernames are remembered briefly, so the JWT filter does not query
+ * the users table on every request. UserService invalidates on writes.
+ */
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepo repo;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Cache<String, UserPrincipal> principals;
+    private final Cache<String, Boolean> unknownUsers;
+
+    public UserDetailsServiceImpl(@Value("${user-cache.max-size:10000}") long maxSize,
+                                  @Value("${user-cache.ttl:5m}") Duration ttl,
+                                  @Value("${user-cache.negative-ttl:30s}") Duration negativeTtl) {
+        principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        unknownUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "userPrincipals");
+        CaffeineCacheMetrics.monitor(meterRegistry, unknownUsers, "unknownUsers");
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
+        UserPrincipal principal = principals.getIfPresent(username);
+        if (principal != null) {
+            return principal;
+        }
+        if (unknownUsers.getIfPresent(username) != null) {
+            throw new UsernameNotFoundException("User doesn't exist");
+        }
+
         User user = repo.findByUsername(username);
 
         if (user == null) {
+            unknownUsers.put(username, Boolean.TRUE);
             throw new UsernameNotFoundException("User doesn't exist");
         }
 
+        principal = new UserPrincipal(user);
+        principals.put(username, principal);
+        return principal;
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = repo.findByUsername(userDetails.getUsername());
+        user.setPassword(newPassword);
+        repo.save(user);
+        invalidate(user.getUsername());
         return new UserPrincipal(user);
     }
 
+    public void invalidate(String username) {
+        principals.invalidate(username);
+        unknownUsers.invalidate(username);
+    }
+
 }
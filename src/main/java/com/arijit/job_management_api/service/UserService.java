@@ -16,9 +16,14 @@ public class UserService {
     @Autowired
     private BCryptPasswordEncoder encoder;
 
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
     public User saveUser(User user) {
         user.setPassword(encoder.encode(user.getPassword()));
-        return repo.save(user);
+        User saved = repo.save(user);
+        userDetailsService.invalidate(saved.getUsername());
+        return saved;
     }
 
 }
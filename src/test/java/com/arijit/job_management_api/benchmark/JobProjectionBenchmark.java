@@ -0,0 +1,94 @@
+package com.arijit.job_management_api.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.arijit.job_management_api.JobManagementApiApplication;
+import com.arijit.job_management_api.model.JobImportResult;
+import com.arijit.job_management_api.model.JobPage;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.service.JobImportService;
+import com.arijit.job_management_api.service.JobProjectionService;
+import com.arijit.job_management_api.service.JobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One /allJobs page as full entities against a postId,postProfile
+ * projection, read from an in-memory H2 database and serialized. Setup
+ * prints the bytes each variant reads from its columns and writes as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobProjectionBenchmark {
+
+    private static final List<String> LISTING_FIELDS = List.of("postId", "postProfile");
+
+    @Param({"100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private JobService jobService;
+    private JobProjectionService projectionService;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(JobManagementApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=warn", "blacklist.store=memory")
+                .run();
+        jobService = context.getBean(JobService.class);
+        projectionService = context.getBean(JobProjectionService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        String description = "Build and run services for a growing product team. ".repeat(4);
+        JobImportResult imported = context.getBean(JobImportService.class).importJobs(IntStream.rangeClosed(1, 10_000)
+                .mapToObj(id -> new JobPost(id, "Engineer " + id, description, id % 10,
+                        List.of("Java", "Spring", "SQL", "Skill" + id % 50)))
+                .iterator(), false);
+        if (imported.getFailed() > 0) {
+            throw new IllegalStateException("Seeding failed: " + imported.getErrors().get(0));
+        }
+
+        JobPage<JobPost> full = jobService.getJobsPage(JobPage.START, pageSize);
+        JobPage<Map<String, Object>> projected = projectionService.findPage(JobPage.START, pageSize, LISTING_FIELDS);
+        long fullColumnChars = full.items().stream().mapToLong(job -> job.getPostProfile().length()
+                + job.getPostDesc().length() + job.getPostSkills().stream().mapToInt(String::length).sum()).sum();
+        long projectedColumnChars = full.items().stream().mapToLong(job -> job.getPostProfile().length()).sum();
+        System.out.printf("%nfull page: %d column chars read, %d JSON bytes%n", fullColumnChars,
+                objectMapper.writeValueAsBytes(full).length);
+        System.out.printf("projected page: %d column chars read, %d JSON bytes%n", projectedColumnChars,
+                objectMapper.writeValueAsBytes(projected).length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] fullEntities() throws Exception {
+        return objectMapper.writeValueAsBytes(jobService.getJobsPage(JobPage.START, pageSize));
+    }
+
+    @Benchmark
+    public byte[] projectedFields() throws Exception {
+        return objectMapper.writeValueAsBytes(projectionService.findPage(JobPage.START, pageSize, LISTING_FIELDS));
+    }
+}
@@ -0,0 +1,112 @@
+package com.arijit.job_management_api.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.arijit.job_management_api.JobManagementApiApplication;
+import com.arijit.job_management_api.model.JobImportResult;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.JobSuggestion;
+import com.arijit.job_management_api.service.JobImportService;
+import com.arijit.job_management_api.service.JobService;
+
+/**
+ * JobService.search over synthetic corpora of 10^3 to 10^5 posts in an
+ * in-memory H2 database: ranking ids from the search index alone, and the
+ * full call that also loads the matching posts, plus type-ahead suggestions
+ * for keystroke-by-keystroke prefixes. Words are drawn with a
+ * skewed distribution so common terms have long posting lists and rare ones
+ * short lists, as in real listings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobSearchBenchmark {
+
+    private static final String[] WORDS = {"engineer", "developer", "java", "spring", "backend", "services", "team",
+            "cloud", "sql", "python", "react", "frontend", "kubernetes", "docker", "kafka", "data", "platform",
+            "senior", "junior", "remote", "payments", "search", "security", "mobile", "android", "ios", "golang",
+            "analytics", "machine", "learning", "terraform", "observability"};
+    private static final String[] QUERIES = {"engineer", "kubernetes", "senior java developer", "obs", "payments platform"};
+    private static final String[] PREFIXES = {"j", "ja", "jav", "s", "se", "sen", "senior d", "k", "ob"};
+    private static final int LIMIT = 20;
+    private static final int SUGGEST_LIMIT = 10;
+
+    @Param({"1000", "10000", "100000"})
+    public int corpusSize;
+
+    private ConfigurableApplicationContext context;
+    private JobService jobService;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JobManagementApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=warn", "blacklist.store=memory")
+                .run();
+        jobService = context.getBean(JobService.class);
+
+        SplittableRandom random = new SplittableRandom(42);
+        JobImportResult imported = context.getBean(JobImportService.class).importJobs(IntStream.rangeClosed(1, corpusSize)
+                .mapToObj(id -> new JobPost(id, words(random, 2), words(random, 16), id % 10,
+                        List.of(WORDS[skewed(random)], WORDS[skewed(random)])))
+                .iterator(), false);
+        if (imported.getFailed() > 0) {
+            throw new IllegalStateException("Seeding failed: " + imported.getErrors().get(0));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Integer> searchIds() {
+        return jobService.searchIds(nextQuery(), LIMIT);
+    }
+
+    @Benchmark
+    public List<JobPost> search() {
+        return jobService.search(nextQuery(), LIMIT);
+    }
+
+    @Benchmark
+    public List<JobSuggestion> suggest() {
+        return jobService.suggest(PREFIXES[next++ % PREFIXES.length], SUGGEST_LIMIT);
+    }
+
+    private String nextQuery() {
+        return QUERIES[next++ % QUERIES.length];
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            words.add(WORDS[skewed(random)]);
+        }
+        return String.join(" ", words);
+    }
+
+    // index i is drawn roughly in proportion to 1 / (i + 1)
+    private static int skewed(SplittableRandom random) {
+        return (int) Math.min(WORDS.length - 1, Math.exp(random.nextDouble() * Math.log(WORDS.length + 1)) - 1);
+    }
+}
@@ -0,0 +1,98 @@
+package com.arijit.job_management_api.benchmark;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.arijit.job_management_api.model.User;
+import com.arijit.job_management_api.model.UserPrincipal;
+import com.arijit.job_management_api.service.JwtKeyRing;
+import com.arijit.job_management_api.service.JwtService;
+import com.arijit.job_management_api.service.JwtService.VerifiedToken;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Per-request JWT cost in JwtFilter: the old path (three full parses, key
+ * decoded and parser built each time) against one parse with a prebuilt
+ * parser and against a verified-token cache hit, plus the public JwtService
+ * calls the filter and /login make.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private String secretKey;
+    private String token;
+    private JwtService jwtService;
+    private JwtParser parser;
+    private UserDetails userDetails;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = JwtKeyRing.of(JwtService.generateSecretKey());
+        jwtService = new JwtService(keyRing);
+        // the legacy path decoded the configured secret on every parse
+        secretKey = Encoders.BASE64.encode(keyRing.signingKey().key().getEncoded());
+        token = jwtService.generateToken("benchmark-user");
+        parser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey))).build();
+        jwtService.verifyToken(token);
+        User user = new User();
+        user.setUsername("benchmark-user");
+        userDetails = new UserPrincipal(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("benchmark-user");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public String extractUserName() {
+        return jwtService.extractUserName(token);
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole bh) {
+        // extractUserName, then validateToken -> extractUserName + extractExpiration
+        bh.consume(legacyParse().getSubject());
+        bh.consume(legacyParse().getSubject());
+        bh.consume(legacyParse().getExpiration().before(new Date()));
+    }
+
+    @Benchmark
+    public Claims singleParse() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public VerifiedToken cachedVerify() {
+        return jwtService.verifyToken(token);
+    }
+
+    private Claims legacyParse() {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+}
@@ -0,0 +1,79 @@
+package com.arijit.job_management_api.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.arijit.job_management_api.filter.RateLimitFilter;
+import com.arijit.job_management_api.service.RateLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Cost of admission control per request: a permit from a limiter that
+ * already tracks {@code keys} callers, and the whole RateLimitFilter around
+ * a chain that does nothing. Rates are high enough that every request is
+ * admitted, which is the common path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimitBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"1", "100000"})
+    public int keys;
+
+    private RateLimiter limiter;
+    private String[] names;
+    private RateLimitFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        limiter = new RateLimiter(1e9, 1_000_000);
+        names = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            names[i] = "user-" + i;
+            limiter.tryAcquire(names[i], System.nanoTime());
+        }
+
+        filter = new RateLimitFilter(new MockEnvironment()
+                .withProperty("rate-limit.read.rate", "1e9")
+                .withProperty("rate-limit.read.burst", "1000000"), new SimpleMeterRegistry());
+        request = new MockHttpServletRequest("GET", "/jobPost/42");
+        request.setRemoteAddr("203.0.113.7");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        String key = names[ThreadLocalRandom.current().nextInt(keys)];
+        return limiter.tryAcquire(key, System.nanoTime());
+    }
+
+    @Benchmark
+    public int filter() throws ServletException, IOException {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        // OncePerRequestFilter marks the request as filtered
+        request.clearAttributes();
+        return response.getStatus();
+    }
+}
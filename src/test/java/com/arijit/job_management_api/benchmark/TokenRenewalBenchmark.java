@@ -0,0 +1,52 @@
+package com.arijit.job_management_api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.arijit.job_management_api.service.JwtService;
+import com.arijit.job_management_api.service.JwtService.VerifiedToken;
+
+/**
+ * CPU cost of renewing a session: a fresh /login (cost-12 BCrypt check plus a
+ * new token) against /token/refresh (verify the refresh token, issue a new
+ * pair). Run single-threaded so the score is CPU time per renewal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenRenewalBenchmark {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
+    private JwtService jwtService;
+    private String passwordHash;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(JwtService.generateSecretKey());
+        passwordHash = encoder.encode("benchmark-password");
+    }
+
+    @Benchmark
+    public void loginWithPassword(Blackhole bh) {
+        bh.consume(encoder.matches("benchmark-password", passwordHash));
+        bh.consume(jwtService.generateToken("benchmark-user"));
+    }
+
+    @Benchmark
+    public void refreshWithToken(Blackhole bh) {
+        // each refresh token is new to the verified-token cache, so this is a full verify
+        VerifiedToken verified = jwtService.verifyToken(jwtService.generateRefreshToken("benchmark-user"));
+        bh.consume(verified);
+        bh.consume(jwtService.generateToken(verified.subject()));
+        bh.consume(jwtService.generateRefreshToken(verified.subject()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.arijit.job_management_api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.arijit.job_management_api.model.User;
+import com.arijit.job_management_api.model.UserPrincipal;
+
+/**
+ * What JwtFilter builds per request once the token checks out: the
+ * UserPrincipal wrapping the loaded user, its authorities and the
+ * authentication token stored in the security context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserPrincipalBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setId(1);
+        user.setUsername("benchmark-user");
+        user.setPassword("$2a$12$abcdefghijklmnopqrstuuSfPZ5hsGBnuS1hA4MfIqV0nZxjPtgRm");
+    }
+
+    @Benchmark
+    public UserDetails createPrincipal() {
+        return new UserPrincipal(user);
+    }
+
+    @Benchmark
+    public void authenticate(Blackhole bh) {
+        UserDetails principal = new UserPrincipal(user);
+        bh.consume(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,356 @@
+package com.arijit.job_management_api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.arijit.job_management_api.model.JobPage;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.JobSuggestion;
+import com.arijit.job_management_api.model.User;
+import com.arijit.job_management_api.repository.UserRepo;
+import com.arijit.job_management_api.service.JobChangeLog;
+import com.arijit.job_management_api.service.JobImportService;
+import com.arijit.job_management_api.service.JobService;
+import com.arijit.job_management_api.service.JobSnapshotStore;
+import com.arijit.job_management_api.service.JwtService;
+import com.arijit.job_management_api.service.RequestDeadline;
+import com.arijit.job_management_api.service.UserService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "security.bcrypt.strength=4")
+class JobRestControllerTest {
+
+    private static final int FIRST_ID = 3001;
+    private static final int JOBS = 1_250;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobChangeLog jobChangeLog;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        bearer = readerBearer(userRepo, userService, jwtService);
+        jobImportService.importJobs(IntStream.range(FIRST_ID, FIRST_ID + JOBS)
+                .mapToObj(id -> new JobPost(id, "Profile " + id, "Desc", 1, List.of("Skill" + id % 7, "Common")))
+                .iterator(), true);
+    }
+
+    @Test
+    void keysetPagesWalkEveryJobOnce() throws Exception {
+        List<Integer> seen = new ArrayList<>();
+        Integer after = FIRST_ID - 1;
+        while (after != null) {
+            String body = mockMvc.perform(get("/allJobs").param("after", after.toString()).param("size", "300")
+                            .header("Authorization", bearer))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JobPage<JobPost> page = objectMapper.readValue(body, new TypeReference<JobPage<JobPost>>() { });
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(300)
+                    .allSatisfy(job -> assertThat(job.getPostSkills()).hasSize(2));
+            page.items().forEach(job -> seen.add(job.getPostId()));
+            after = page.nextAfter();
+        }
+        assertThat(seen).containsExactlyElementsOf(IntStream.range(FIRST_ID, FIRST_ID + JOBS).boxed().toList());
+    }
+
+    @Test
+    void firstPageStartsBelowZeroWhenAfterIsOmitted() throws Exception {
+        jobService.addJob(new JobPost(0, "Zero", "Desc", 1, List.of("Common")));
+        try {
+            mockMvc.perform(get("/allJobs").param("size", "1").header("Authorization", bearer))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].postId").value(lessThanOrEqualTo(0)));
+        } finally {
+            jobService.deleteJob(0);
+        }
+    }
+
+    @Test
+    void lastPageHasNoCursor() throws Exception {
+        mockMvc.perform(get("/allJobs").param("after", String.valueOf(FIRST_ID + JOBS - 2))
+                        .header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.nextAfter").doesNotExist());
+    }
+
+    @Test
+    void allJobsReturnsEveryJobAsOneArray() throws Exception {
+        String body = mockMvc.perform(get("/allJobs").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getContentAsString();
+
+        JobPost[] jobs = objectMapper.readValue(body, JobPost[].class);
+        List<Integer> ids = new ArrayList<>();
+        for (JobPost job : jobs) {
+            ids.add(job.getPostId());
+        }
+        assertThat(ids).isSorted().containsSubsequence(FIRST_ID, FIRST_ID + 500, FIRST_ID + JOBS - 1);
+        assertThat(jobs[jobs.length - 1].getPostSkills()).contains("Common");
+    }
+
+    @Test
+    void unchangedJobAnswersNotModifiedUntilItIsUpdated() throws Exception {
+        String etag = mockMvc.perform(get("/jobPost/" + FIRST_ID).header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postProfile").value("Profile " + FIRST_ID))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/jobPost/" + FIRST_ID).header("Authorization", bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        JobPost changed = new JobPost(FIRST_ID, "Changed", "Desc", 1, List.of("Common"));
+        mockMvc.perform(put("/jobPost").header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(changed)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postProfile").value("Changed"));
+
+        mockMvc.perform(get("/jobPost/" + FIRST_ID).header("Authorization", bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postProfile").value("Changed"));
+    }
+
+    @Test
+    void fieldsSelectOnlyTheRequestedProperties() throws Exception {
+        mockMvc.perform(get("/allJobs").param("after", String.valueOf(FIRST_ID - 1)).param("size", "2")
+                        .param("fields", "postProfile,postId").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].postProfile").value("Profile " + FIRST_ID))
+                .andExpect(jsonPath("$.items[0].postDesc").doesNotExist())
+                .andExpect(jsonPath("$.items[0].postSkills").doesNotExist())
+                .andExpect(jsonPath("$.nextAfter").value(FIRST_ID + 1));
+
+        String single = mockMvc.perform(get("/jobPost/" + FIRST_ID).param("fields", "postSkills")
+                        .header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(single).fieldNames()).toIterable().containsExactly("postSkills");
+        assertThat(objectMapper.readTree(single).get("postSkills")).hasSize(2);
+
+        mockMvc.perform(get("/jobPost/search").param("keyword", "Profile " + (FIRST_ID + 7))
+                        .param("fields", "postId").header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].postId").value(FIRST_ID + 7))
+                .andExpect(jsonPath("$[0].postProfile").doesNotExist());
+
+        mockMvc.perform(get("/allJobs").param("fields", "postId,password").header("Authorization", bearer))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void longPollCompletesWhenAJobChanges() throws Exception {
+        long since = jobChangeLog.latestVersion();
+        MvcResult waiting = mockMvc.perform(get("/jobPost/changes").header("Authorization", bearer)
+                        .param("since", Long.toString(since)).param("waitSeconds", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        jobService.addJob(new JobPost(FIRST_ID + JOBS, "Late arrival", "Desc", 1, List.of("Common")));
+
+        mockMvc.perform(asyncDispatch(waiting))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].postId").value(FIRST_ID + JOBS))
+                .andExpect(jsonPath("$.changes[0].job.postProfile").value("Late arrival"))
+                .andExpect(jsonPath("$.nextSince").value(since + 1));
+        jobService.deleteJob(FIRST_ID + JOBS);
+    }
+
+    @Test
+    void largeResponsesAreGzippedWhenAccepted() throws Exception {
+        byte[] gzipped = mockMvc.perform(get("/allJobs").header("Authorization", bearer)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(objectMapper.readValue(in, JobPost[].class)).hasSizeGreaterThanOrEqualTo(JOBS);
+        }
+    }
+
+    @Test
+    void requestsRecordFilterStagesRepositoryCallsAndStatementCounts() throws Exception {
+        long statementsBefore = statementSummaryCount();
+
+        mockMvc.perform(get("/allJobs").param("after", String.valueOf(FIRST_ID)).param("size", "10")
+                        .header("Authorization", bearer))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("jwt.filter.stage").tag("stage", "verify").timer().count()).isPositive();
+        assertThat(meterRegistry.get("jwt.filter.stage").tag("stage", "load_user").timer().count()).isPositive();
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "JobRepository").tag("method", "findIdsAfter").timer().count()).isPositive();
+        // one statement-count sample for the request
+        assertThat(statementSummaryCount()).isEqualTo(statementsBefore + 1);
+        // one query for the page's ids, one for the rows with their skills
+        assertThat(meterRegistry.get("hibernate.statements.per.request").tag("uri", "/allJobs").summary().max())
+                .isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void suggestCompletesProfilesAndSkillsByFrequencyWithoutQueries() throws Exception {
+        mockMvc.perform(get("/jobPost/suggest").param("prefix", "COMM").param("limit", "1")
+                        .header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].text").value("Common"));
+
+        String body = mockMvc.perform(get("/jobPost/suggest").param("prefix", "skill").param("limit", "3")
+                        .header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<JobSuggestion> suggestions = objectMapper.readValue(body, new TypeReference<List<JobSuggestion>>() { });
+        assertThat(suggestions).hasSize(3)
+                .allSatisfy(suggestion -> assertThat(suggestion.text()).startsWith("Skill"));
+        assertThat(suggestions).extracting(JobSuggestion::count).isSortedAccordingTo((a, b) -> b - a);
+
+        assertThat(meterRegistry.get("hibernate.statements.per.request").tag("uri", "/jobPost/suggest")
+                .summary().max()).isZero();
+    }
+
+    @Test
+    void queriesRunUnderTheRequestDeadline() throws Exception {
+        mockMvc.perform(get("/allJobs").param("after", String.valueOf(FIRST_ID)).param("size", "10")
+                        .header("X-Request-Timeout", "5000")
+                        .header("Authorization", bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(10));
+
+        // statements created through the DataSource are refused once the deadline has passed
+        RequestDeadline.bind(new RequestDeadline(System.nanoTime() - 1));
+        try {
+            assertThatThrownBy(() -> jobService.getJobsPage(FIRST_ID, 10)).isInstanceOf(DataAccessException.class);
+        } finally {
+            RequestDeadline.bind(null);
+        }
+    }
+
+    /**
+     * Reads with job-snapshot.enabled, which needs a context of its own;
+     * beans are injected again rather than taken from the outer class.
+     */
+    @Nested
+    @TestPropertySource(properties = {"job-snapshot.enabled=true", "job-snapshot.refresh-interval-ms=3600000"})
+    class SnapshotMode {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private UserService userService;
+
+        @Autowired
+        private UserRepo userRepo;
+
+        @Autowired
+        private JwtService jwtService;
+
+        @Autowired
+        private JobService jobService;
+
+        @Autowired
+        private JobSnapshotStore snapshotStore;
+
+        @Test
+        void cachedResponsesFollowTheRefreshedSnapshot() throws Exception {
+            String bearer = readerBearer(userRepo, userService, jwtService);
+            jobService.addJob(new JobPost(6002, "Before", "Desc", 1, List.of("Java")));
+            snapshotStore.refresh();
+            mockMvc.perform(get("/jobPost/6002").header("Authorization", bearer))
+                    .andExpect(jsonPath("$.postProfile").value("Before"));
+
+            JobPost changed = new JobPost(6002, "After", "Desc", 1, List.of("Java"));
+            mockMvc.perform(put("/jobPost").header("Authorization", bearer)
+                            .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(changed)))
+                    .andExpect(status().isOk());
+            // still the old snapshot, and the body rendered from it is cached under the write's generation
+            mockMvc.perform(get("/jobPost/6002").header("Authorization", bearer))
+                    .andExpect(jsonPath("$.postProfile").value("Before"));
+
+            snapshotStore.refresh();
+            mockMvc.perform(get("/jobPost/6002").header("Authorization", bearer))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.postProfile").value("After"));
+        }
+    }
+
+    // registers the reader once per context and returns a fresh token for it
+    private static String readerBearer(UserRepo userRepo, UserService userService, JwtService jwtService) {
+        if (userRepo.findByUsername("jobreader") == null) {
+            User user = new User();
+            user.setUsername("jobreader");
+            user.setPassword("secret");
+            userService.saveUser(user);
+        }
+        return "Bearer " + jwtService.generateToken("jobreader");
+    }
+
+    private long statementSummaryCount() {
+        DistributionSummary summary = meterRegistry.find("hibernate.statements.per.request")
+                .tag("uri", "/allJobs").tag("method", "GET").summary();
+        return summary == null ? 0 : summary.count();
+    }
+}
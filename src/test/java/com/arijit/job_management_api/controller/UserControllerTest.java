@@ -0,0 +1,112 @@
+package com.arijit.job_management_api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.arijit.job_management_api.model.TokenResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "security.bcrypt.strength=4")
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void registerLoginUseAndLogout() throws Exception {
+        String credentials = "{\"username\":\"alice\",\"password\":\"secret\"}";
+        perform(post("/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk());
+
+        String token = login(credentials).accessToken();
+        assertThat(token).isNotBlank();
+
+        mockMvc.perform(get("/allJobs").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/allJobs").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        perform(post("/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"bob\",\"password\":\"right\"}"))
+                .andExpect(status().isOk());
+
+        perform(post("/login").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"bob\",\"password\":\"wrong\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refreshTokensRotateAndCannotBeReused() throws Exception {
+        String credentials = "{\"username\":\"carol\",\"password\":\"secret\"}";
+        perform(post("/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk());
+        TokenResponse tokens = login(credentials);
+
+        // a refresh token is not an access token
+        mockMvc.perform(get("/allJobs").header("Authorization", "Bearer " + tokens.refreshToken()))
+                .andExpect(status().isUnauthorized());
+
+        String body = mockMvc.perform(post("/token/refresh").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + tokens.refreshToken() + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andReturn().getResponse().getContentAsString();
+        TokenResponse renewed = objectMapper.readValue(body, TokenResponse.class);
+        assertThat(renewed.refreshToken()).isNotEqualTo(tokens.refreshToken());
+
+        mockMvc.perform(get("/allJobs").header("Authorization", "Bearer " + renewed.accessToken()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/token/refresh").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + tokens.refreshToken() + "\"}"))
+                .andExpect(status().isUnauthorized());
+
+        // logout revokes the refresh token passed with it
+        mockMvc.perform(post("/logout").header("Authorization", "Bearer " + renewed.accessToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + renewed.refreshToken() + "\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/token/refresh").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + renewed.refreshToken() + "\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private TokenResponse login(String credentials) throws Exception {
+        String body = perform(post("/login").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, TokenResponse.class);
+    }
+
+    // login and register complete asynchronously on the password hashing pool
+    private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
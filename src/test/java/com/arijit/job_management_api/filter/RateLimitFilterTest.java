@@ -0,0 +1,89 @@
+package com.arijit.job_management_api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(new MockEnvironment()
+            .withProperty("rate-limit.login.rate", "0.5")
+            .withProperty("rate-limit.login.burst", "2")
+            .withProperty("rate-limit.read.burst", "3"), meterRegistry);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void overBudgetGets429WithRetryAfter() throws Exception {
+        assertThat(send("POST", "/login").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/login").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse refused = send("POST", "/login");
+        assertThat(refused.getStatus()).isEqualTo(429);
+        assertThat(refused.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("class", "login").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void endpointClassesHaveSeparateBudgets() throws Exception {
+        send("POST", "/login");
+        send("POST", "/login");
+        assertThat(send("POST", "/login").getStatus()).isEqualTo(429);
+
+        assertThat(send("GET", "/jobPosts").getStatus()).isEqualTo(200);
+        assertThat(send("GET", "/jobPost/search/java").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/jobPost").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void authenticatedUsersAreLimitedByNameNotAddress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send("GET", "/allJobs");
+        }
+        assertThat(send("GET", "/allJobs").getStatus()).isEqualTo(429);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+        assertThat(send("GET", "/allJobs").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void classifiesRequests() {
+        assertThat(RateLimitFilter.classify(request("POST", "/token/refresh")))
+                .isEqualTo(RateLimitFilter.EndpointClass.LOGIN);
+        assertThat(RateLimitFilter.classify(request("GET", "/jobPost/filter")))
+                .isEqualTo(RateLimitFilter.EndpointClass.SEARCH);
+        assertThat(RateLimitFilter.classify(request("DELETE", "/jobPost/7")))
+                .isEqualTo(RateLimitFilter.EndpointClass.WRITE);
+        assertThat(RateLimitFilter.classify(request("GET", "/jobPost/7")))
+                .isEqualTo(RateLimitFilter.EndpointClass.READ);
+    }
+
+    private MockHttpServletResponse send(String method, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, path), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr("203.0.113.7");
+        return request;
+    }
+}
@@ -0,0 +1,147 @@
+package com.arijit.job_management_api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.arijit.job_management_api.service.RequestDeadline;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class RequestDeadlineFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(new MockEnvironment()
+            .withProperty("request-deadline.search", "200ms")
+            .withProperty("request-deadline.default", "5s"), meterRegistry);
+
+    @AfterEach
+    void stopWatchdog() {
+        filter.stopWatchdog();
+    }
+
+    @Test
+    void bindsTheEndpointBudgetWhileTheRequestRuns() throws Exception {
+        assertThat(remainingMillis(request("/jobPost/search/java"))).isBetween(1L, 200L);
+        assertThat(remainingMillis(request("/jobPost/7"))).isBetween(4000L, 5000L);
+        assertThat(RequestDeadline.current()).isNull();
+    }
+
+    @Test
+    void headerShortensButNeverExtendsTheBudget() throws Exception {
+        MockHttpServletRequest shorter = request("/jobPost/7");
+        shorter.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "50");
+        assertThat(remainingMillis(shorter)).isBetween(1L, 50L);
+
+        MockHttpServletRequest longer = request("/jobPost/search/java");
+        longer.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "60000");
+        assertThat(remainingMillis(longer)).isBetween(1L, 200L);
+
+        // imports have no deadline unless the client asks for one
+        MockHttpServletRequest importRequest = request("/jobPost/batch");
+        assertThat(remainingMillis(importRequest)).isEqualTo(-1);
+        importRequest.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "1000");
+        assertThat(remainingMillis(importRequest)).isBetween(1L, 1000L);
+    }
+
+    @Test
+    void rejectsMalformedTimeoutHeader() throws Exception {
+        MockHttpServletRequest request = request("/jobPost/7");
+        request.addHeader(RequestDeadlineFilter.TIMEOUT_HEADER, "soon");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    void changeFeedsHaveNoDeadline() throws Exception {
+        assertThat(remainingMillis(request("/jobPost/changes"))).isEqualTo(-1);
+    }
+
+    @Test
+    void cancelsTheRunningQueryAndAnswers504() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:request-deadline-filter-test")) {
+            filter.doFilter(request("/jobPost/search/java"), response, new MockFilterChain(new HttpServlet() {
+                @Override
+                protected void service(HttpServletRequest request, HttpServletResponse response) {
+                    try (Statement statement = connection.createStatement()) {
+                        RequestDeadline.current().register(statement);
+                        statement.executeQuery("SELECT SUM(X) FROM SYSTEM_RANGE(1, 10000000000)");
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }));
+        }
+
+        assertThat(response.getStatus()).isEqualTo(504);
+        assertThat(meterRegistry.get("request.deadline.exceeded").tag("endpoint", "search").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("request.statements.cancelled").tag("reason", "deadline").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void failuresBeforeTheDeadlinePassThrough() {
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                throw new IllegalStateException("broken");
+            }
+        });
+
+        assertThatThrownBy(() -> filter.doFilter(request("/jobPost/7"), new MockHttpServletResponse(), chain))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("request.deadline.exceeded").tag("endpoint", "default").counter().count())
+                .isZero();
+    }
+
+    @Test
+    void classifiesRequests() {
+        assertThat(RequestDeadlineFilter.classify(request("/jobPost/suggest")))
+                .isEqualTo(RequestDeadlineFilter.Endpoint.SEARCH);
+        assertThat(RequestDeadlineFilter.classify(request("/allJobs")))
+                .isEqualTo(RequestDeadlineFilter.Endpoint.ALL_JOBS);
+        assertThat(RequestDeadlineFilter.classify(request("/load")))
+                .isEqualTo(RequestDeadlineFilter.Endpoint.IMPORT);
+        assertThat(RequestDeadlineFilter.classify(request("/jobPost/7")))
+                .isEqualTo(RequestDeadlineFilter.Endpoint.DEFAULT);
+    }
+
+    // milliseconds left on the deadline bound for the request, -1 if none
+    private long remainingMillis(MockHttpServletRequest request) throws Exception {
+        AtomicLong remaining = new AtomicLong(-1);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                RequestDeadline deadline = RequestDeadline.current();
+                if (deadline != null) {
+                    remaining.set(deadline.remainingNanos(System.nanoTime()) / 1_000_000);
+                }
+            }
+        }));
+        return remaining.get();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
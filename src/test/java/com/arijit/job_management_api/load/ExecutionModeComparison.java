@@ -0,0 +1,57 @@
+package com.arijit.job_management_api.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.arijit.job_management_api.load.LoadDriver.Result;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Runs the same read mix against the application with platform-thread and
+ * with virtual-thread request handling and prints throughput and tail
+ * latency side by side. Not part of the normal build; run with
+ * {@code ./mvnw -Pload test -Dtest=ExecutionModeComparison}. Tune with
+ * -Dload.concurrency, -Dload.seconds and -Dload.statement-latency-ms.
+ */
+@Tag("load")
+class ExecutionModeComparison {
+
+    private static final int JOBS = 5_000;
+    private static final int USERS = 50;
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 400);
+        Duration duration = Duration.ofSeconds(Long.getLong("load.seconds", 20));
+        Duration latency = Duration.ofMillis(Long.getLong("load.statement-latency-ms", 5));
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (boolean virtual : new boolean[] {false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            try (ConfigurableApplicationContext app = LoadTestApplication.start(
+                    Map.of("spring.threads.virtual.enabled", virtual))) {
+                LoadTestApplication.seed(app, JOBS, USERS);
+                LoadTestApplication.setStatementLatency(app, latency);
+                LoadDriver driver = new LoadDriver(LoadTestApplication.baseUrl(app));
+                Result result = driver.run(LoadTestApplication.login(driver, USERS),
+                        LoadTestApplication.jobReadMix(driver, JOBS), concurrency, Duration.ofSeconds(5), duration);
+                int poolSize = app.getBean(DataSource.class).unwrap(HikariDataSource.class).getMaximumPoolSize();
+                results.put(mode + ", pool " + poolSize, result);
+            }
+        }
+
+        System.out.println("\nExecution mode comparison, " + concurrency + " clients, "
+                + latency.toMillis() + " ms per statement:");
+        results.forEach((mode, result) -> System.out.println(result.summary(mode)));
+        results.values().forEach(result -> assertThat(result.errors()).isLessThan(Math.max(1, result.requests() / 100)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.arijit.job_management_api.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.arijit.job_management_api.load.LoadDriver.Result;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Baseline load run against the whole application: seeds job posts and
+ * users, then each client logs in and drives reads, writes and logouts
+ * until the run ends. Per-endpoint requests/s and p50/p99/p99.9 latency are
+ * printed and written as JSON to load.output so runs can be compared.
+ *
+ * Not part of the normal build; run with
+ * {@code ./mvnw -Pload test -Dtest=JobApiLoadTest}. Tune with -Dload.jobs,
+ * -Dload.users, -Dload.concurrency, -Dload.warmup-seconds, -Dload.seconds,
+ * -Dload.statement-latency-ms and -Dload.output.
+ */
+@Tag("load")
+class JobApiLoadTest {
+
+    @Test
+    void jobApiBaseline() throws Exception {
+        int jobs = Integer.getInteger("load.jobs", 10_000);
+        int users = Integer.getInteger("load.users", 100);
+        int concurrency = Integer.getInteger("load.concurrency", 100);
+        Duration warmUp = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+        Duration latency = Duration.ofMillis(Long.getLong("load.statement-latency-ms", 0));
+        Path output = Path.of(System.getProperty("load.output", "target/load-results/job-api.json"));
+
+        Result result;
+        try (ConfigurableApplicationContext app = LoadTestApplication.start(Map.of())) {
+            LoadTestApplication.seed(app, jobs, users);
+            LoadTestApplication.setStatementLatency(app, latency);
+            LoadDriver driver = new LoadDriver(LoadTestApplication.baseUrl(app));
+            result = driver.run(LoadTestApplication.login(driver, users), LoadTestApplication.jobApiMix(driver, jobs),
+                    concurrency, warmUp, duration);
+        }
+
+        System.out.println("\nJob API load, " + jobs + " jobs, " + users + " users:");
+        System.out.println(result.summary("all"));
+        result.endpoints().forEach((name, endpoint) -> System.out.printf(
+                "%-18s %8d requests %9.0f req/s  p50 %7.2f ms  p99 %7.2f ms  p99.9 %7.2f ms  errors %d%n",
+                name, endpoint.requests(), endpoint.requestsPerSecond(), endpoint.p50Millis(),
+                endpoint.p99Millis(), endpoint.p999Millis(), endpoint.errors()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", "job-api");
+        report.put("finishedAt", Instant.now().toString());
+        report.put("jobs", jobs);
+        report.put("users", users);
+        report.put("statementLatencyMillis", latency.toMillis());
+        report.put("warmUpSeconds", warmUp.toSeconds());
+        report.put("result", result);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        System.out.println("Results written to " + output.toAbsolutePath());
+
+        assertThat(result.errors()).isLessThanOrEqualTo(result.requests() / 100);
+    }
+}
@@ -0,0 +1,245 @@
+package com.arijit.job_management_api.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP load generator: {@code concurrency} clients each send
+ * the next request as soon as the previous one completes, for a fixed
+ * duration after a warm-up. Requests are drawn from a weighted mix.
+ * Latencies are kept per client and merged at the end for exact
+ * percentiles.
+ *
+ * Each client has a Session. While it holds no token the client sends the
+ * sign-in request instead of one from the mix, so a logout in the mix is
+ * followed by a fresh login.
+ */
+public class LoadDriver {
+
+    /**
+     * One kind of request. {@code request} gets the client's session so it
+     * can pick ids or keywords; {@code onSuccess}, if set, receives the
+     * response body of 2xx responses.
+     */
+    public record Endpoint(String name, int weight, Function<Session, HttpRequest.Builder> request,
+                           BiConsumer<Session, String> onSuccess) {
+
+        public Endpoint(String name, int weight, Function<Session, HttpRequest.Builder> request) {
+            this(name, weight, request, null);
+        }
+    }
+
+    public static final class Session {
+
+        private final int client;
+        private final ThreadLocalRandom random = ThreadLocalRandom.current();
+        private String token;
+
+        private Session(int client) {
+            this.client = client;
+        }
+
+        public int client() {
+            return client;
+        }
+
+        public ThreadLocalRandom random() {
+            return random;
+        }
+
+        public String token() {
+            return token;
+        }
+
+        public void setToken(String token) {
+            this.token = token;
+        }
+    }
+
+    public record EndpointResult(long requests, long errors, double requestsPerSecond, double p50Millis, double p99Millis, double p999Millis) {
+    }
+
+    public record Result(int concurrency, double seconds, long requests, long errors, double requestsPerSecond,
+                         double p50Millis, double p99Millis, double p999Millis, Map<String, EndpointResult> endpoints) {
+
+        public String summary(String label) {
+            return String.format("%-18s %6d clients %9.0f req/s  p50 %7.2f ms  p99 %7.2f ms  p99.9 %7.2f ms  errors %d",
+                    label, concurrency, requestsPerSecond, p50Millis, p99Millis, p999Millis, errors);
+        }
+    }
+
+    private final String baseUrl;
+    private final HttpClient client;
+
+    public LoadDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Runs the mix. {@code signIn} is recorded as one more endpoint after the
+     * ones in {@code mix}.
+     */
+    public Result run(Endpoint signIn, List<Endpoint> mix, int concurrency, Duration warmUp, Duration duration)
+            throws Exception {
+        List<Endpoint> endpoints = new ArrayList<>(mix);
+        endpoints.add(signIn);
+        int[] cumulative = new int[mix.size()];
+        int total = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            total += mix.get(i).weight();
+            cumulative[i] = total;
+        }
+        int totalWeight = total;
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmUp.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        List<Future<ClientSamples>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                int client = c;
+                clients.add(executor.submit(() -> runClient(client, endpoints, cumulative, totalWeight, measureFrom, end)));
+            }
+            return merge(endpoints, clients, concurrency, duration);
+        }
+    }
+
+    private static final class ClientSamples {
+
+        private final long[][] latencies;
+        private final int[] counts;
+        private final long[] errors;
+
+        private ClientSamples(int endpoints) {
+            latencies = new long[endpoints][1024];
+            counts = new int[endpoints];
+            errors = new long[endpoints];
+        }
+
+        private void add(int endpoint, long nanos, boolean ok) {
+            if (!ok) {
+                errors[endpoint]++;
+            }
+            if (counts[endpoint] == latencies[endpoint].length) {
+                latencies[endpoint] = Arrays.copyOf(latencies[endpoint], counts[endpoint] * 2);
+            }
+            latencies[endpoint][counts[endpoint]++] = nanos;
+        }
+    }
+
+    private ClientSamples runClient(int clientId, List<Endpoint> endpoints, int[] cumulative, int totalWeight,
+                                    long measureFrom, long end) {
+        ClientSamples samples = new ClientSamples(endpoints.size());
+        Session session = new Session(clientId);
+        for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+            // the sign-in endpoint is last and is never drawn from the mix
+            int index = endpoints.size() - 1;
+            if (session.token() != null) {
+                int pick = session.random().nextInt(totalWeight);
+                index = 0;
+                while (cumulative[index] <= pick) {
+                    index++;
+                }
+            }
+            Endpoint endpoint = endpoints.get(index);
+            HttpRequest.Builder builder = endpoint.request().apply(session).timeout(Duration.ofSeconds(30));
+            if (session.token() != null) {
+                builder.header("Authorization", "Bearer " + session.token());
+            }
+            boolean ok;
+            try {
+                if (endpoint.onSuccess() == null) {
+                    ok = client.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                } else {
+                    HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+                    ok = response.statusCode() < 400;
+                    if (ok) {
+                        endpoint.onSuccess().accept(session, response.body());
+                    }
+                }
+            } catch (Exception e) {
+                ok = false;
+            }
+            if (now >= measureFrom) {
+                samples.add(index, System.nanoTime() - now, ok);
+            }
+        }
+        return samples;
+    }
+
+    private Result merge(List<Endpoint> endpoints, List<Future<ClientSamples>> clients, int concurrency, Duration duration)
+            throws Exception {
+        List<ClientSamples> perClient = new ArrayList<>();
+        for (Future<ClientSamples> future : clients) {
+            perClient.add(future.get(duration.toMillis() + 120_000, TimeUnit.MILLISECONDS));
+        }
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, EndpointResult> results = new LinkedHashMap<>();
+        long[] all = new long[0];
+        long totalErrors = 0;
+        for (int i = 0; i < endpoints.size(); i++) {
+            long[] latencies = new long[0];
+            long errors = 0;
+            for (ClientSamples client : perClient) {
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + client.counts[i]);
+                System.arraycopy(client.latencies[i], 0, latencies, offset, client.counts[i]);
+                errors += client.errors[i];
+            }
+            Arrays.sort(latencies);
+            results.put(endpoints.get(i).name(), new EndpointResult(latencies.length, errors, latencies.length / seconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999)));
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            totalErrors += errors;
+        }
+        Arrays.sort(all);
+        return new Result(concurrency, seconds, all.length, totalErrors, all.length / seconds,
+                percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999), results);
+    }
+
+    public HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    public HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    public HttpRequest.Builder put(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,226 @@
+package com.arijit.job_management_api.load;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.arijit.job_management_api.JobManagementApiApplication;
+import com.arijit.job_management_api.load.LoadDriver.Endpoint;
+import com.arijit.job_management_api.model.JobImportResult;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.TokenResponse;
+import com.arijit.job_management_api.model.User;
+import com.arijit.job_management_api.service.JobImportService;
+import com.arijit.job_management_api.service.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Starts the real application on a random port against its own in-memory
+ * H2 database for load runs. H2 answers in microseconds, so an optional
+ * per-statement delay stands in for the network round trip to PostgreSQL;
+ * without it, runs only measure CPU. Set the delay after seeding so the
+ * import is not slowed down by it.
+ */
+final class LoadTestApplication {
+
+    static final String[] SKILLS = {"Java", "Spring", "SQL", "Python", "React", "AWS", "Docker", "Kubernetes",
+            "Go", "Kafka", "Redis", "TypeScript"};
+    static final String[] PROFILES = {"Engineer", "Developer", "Analyst", "Architect", "Designer", "Manager"};
+
+    static final String PASSWORD = "load-password";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private LoadTestApplication() {
+    }
+
+    private static final String LATENCY_BEAN = "loadTestStatementLatencyMillis";
+
+    static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:load-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        properties.put("security.bcrypt.strength", 4);
+        properties.put("blacklist.store", "memory");
+        properties.put("logging.level.root", "warn");
+        // every simulated user connects from the same address
+        properties.put("rate-limit.enabled", false);
+        properties.putAll(overrides);
+        return new SpringApplicationBuilder(JobManagementApiApplication.class)
+                .properties(properties)
+                .initializers(context -> {
+                    AtomicLong latencyMillis = new AtomicLong();
+                    context.getBeanFactory().registerSingleton(LATENCY_BEAN, latencyMillis);
+                    context.getBeanFactory().addBeanPostProcessor(latencyInjector(latencyMillis));
+                })
+                .run();
+    }
+
+    static void setStatementLatency(ConfigurableApplicationContext context, Duration latency) {
+        context.getBean(LATENCY_BEAN, AtomicLong.class).set(latency.toMillis());
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    /**
+     * Imports {@code jobs} synthetic posts with ids 1..jobs and registers
+     * {@code users} users named load-user-0.. with password {@link #PASSWORD}.
+     */
+    static void seed(ConfigurableApplicationContext context, int jobs, int users) {
+        JobImportResult imported = context.getBean(JobImportService.class).importJobs(IntStream.rangeClosed(1, jobs)
+                .mapToObj(LoadTestApplication::job)
+                .iterator(), true);
+        if (imported.getFailed() > 0) {
+            throw new IllegalStateException("Seeding failed: " + imported.getErrors().get(0));
+        }
+        UserService userService = context.getBean(UserService.class);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setUsername(username(i));
+            user.setPassword(PASSWORD);
+            userService.saveUser(user);
+        }
+    }
+
+    static String username(int user) {
+        return "load-user-" + user;
+    }
+
+    static JobPost job(int id) {
+        return new JobPost(id, PROFILES[id % PROFILES.length] + " " + id,
+                "Work on " + SKILLS[id % SKILLS.length] + " services with a small team.", id % 12,
+                List.of(SKILLS[id % SKILLS.length], SKILLS[(id / 7) % SKILLS.length]));
+    }
+
+    /**
+     * POST /login as the client's user, keeping the access token in the
+     * session. Clients share users only when there are fewer users than
+     * clients.
+     */
+    static Endpoint login(LoadDriver driver, int users) {
+        return new Endpoint("login", 0,
+                session -> driver.post("/login", "{\"username\":\"" + username(session.client() % users)
+                        + "\",\"password\":\"" + PASSWORD + "\"}"),
+                (session, body) -> session.setToken(read(body, TokenResponse.class).accessToken()));
+    }
+
+    /**
+     * The read-heavy mix downstream services generate: single posts, pages,
+     * keyword search and skill filters.
+     */
+    static List<Endpoint> jobReadMix(LoadDriver driver, int jobs) {
+        return List.of(
+                new Endpoint("jobPost", 40, session -> driver.get("/jobPost/" + (1 + session.random().nextInt(jobs)))),
+                new Endpoint("allJobsPage", 20, session -> driver.get("/allJobs?size=50&after="
+                        + session.random().nextInt(jobs))),
+                new Endpoint("search", 25, session -> driver.get("/jobPost/search?limit=20&keyword="
+                        + PROFILES[session.random().nextInt(PROFILES.length)])),
+                new Endpoint("filter", 15, session -> driver.get("/jobPost/filter?limit=20&anySkills="
+                        + SKILLS[session.random().nextInt(SKILLS.length)] + "&minExperience="
+                        + session.random().nextInt(6))));
+    }
+
+    /**
+     * Reads plus the rest of a user's session: new and edited posts, and
+     * logging out (after which the client logs in again).
+     */
+    static List<Endpoint> jobApiMix(LoadDriver driver, int jobs) {
+        AtomicInteger nextId = new AtomicInteger(jobs);
+        List<Endpoint> mix = new ArrayList<>(jobReadMix(driver, jobs));
+        mix.add(new Endpoint("createJob", 4, session -> driver.post("/jobPost", write(job(nextId.incrementAndGet())))));
+        mix.add(new Endpoint("updateJob", 4, session -> driver.put("/jobPost",
+                write(job(1 + session.random().nextInt(jobs))))));
+        mix.add(new Endpoint("logout", 2, session -> driver.post("/logout", "{}"),
+                (session, body) -> session.setToken(null)));
+        return mix;
+    }
+
+    private static String write(Object value) {
+        try {
+            return JSON.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T read(String json, Class<T> type) {
+        try {
+            return JSON.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BeanPostProcessor latencyInjector(AtomicLong latencyMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return delayStatements(super.getConnection(), latencyMillis);
+                    }
+                };
+            }
+        };
+    }
+
+    // statements created by the connection sleep before each execute call
+    private static Connection delayStatements(Connection connection, AtomicLong latencyMillis) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (self, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (method.getReturnType() == PreparedStatement.class) {
+                        return delayExecute((PreparedStatement) result, PreparedStatement.class, latencyMillis);
+                    }
+                    if (method.getReturnType() == Statement.class) {
+                        return delayExecute((Statement) result, Statement.class, latencyMillis);
+                    }
+                    return result;
+                });
+    }
+
+    private static <T extends Statement> T delayExecute(T statement, Class<T> type, AtomicLong latencyMillis) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            long millis = latencyMillis.get();
+            if (millis > 0 && method.getName().startsWith("execute")) {
+                Thread.sleep(millis);
+            }
+            return invoke(statement, method, args);
+        }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
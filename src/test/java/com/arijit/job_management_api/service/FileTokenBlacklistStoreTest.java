@@ -0,0 +1,61 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.arijit.job_management_api.model.RevokedToken;
+
+class FileTokenBlacklistStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysLogAfterRestart() throws Exception {
+        FileTokenBlacklistStore store = new FileTokenBlacklistStore(dir.toString(), false);
+        assertThat(store.append(1, 2, 1_000)).isEqualTo(1);
+        assertThat(store.append(3, 4, 2_000)).isEqualTo(2);
+        store.close();
+
+        FileTokenBlacklistStore reopened = new FileTokenBlacklistStore(dir.toString(), false);
+        assertThat(reopened.fetchSince(0, 10)).extracting(RevokedToken::getDigestHi).containsExactly(1L, 3L);
+        assertThat(reopened.fetchSince(1, 10)).extracting(RevokedToken::getVersion).containsExactly(2L);
+        assertThat(reopened.append(5, 6, 3_000)).isEqualTo(3);
+        reopened.close();
+    }
+
+    @Test
+    void aDigestIsOnlyAppendedOnceAcrossRestarts() throws Exception {
+        FileTokenBlacklistStore store = new FileTokenBlacklistStore(dir.toString(), false);
+        assertThat(store.append(1, 2, 1_000)).isEqualTo(1);
+        assertThat(store.append(1, 2, 1_000)).isEqualTo(TokenBlacklistStore.ALREADY_REVOKED);
+        store.close();
+
+        FileTokenBlacklistStore reopened = new FileTokenBlacklistStore(dir.toString(), false);
+        assertThat(reopened.append(1, 2, 1_000)).isEqualTo(TokenBlacklistStore.ALREADY_REVOKED);
+        assertThat(reopened.size()).isEqualTo(1);
+        reopened.close();
+    }
+
+    @Test
+    void purgeCompactsIntoSnapshotAndKeepsVersionsIncreasing() throws Exception {
+        FileTokenBlacklistStore store = new FileTokenBlacklistStore(dir.toString(), false);
+        store.append(1, 1, 100);
+        store.append(2, 2, 5_000);
+        store.append(3, 3, 200);
+
+        assertThat(store.purgeExpired(1_000)).isEqualTo(2);
+        assertThat(store.size()).isEqualTo(1);
+        store.close();
+
+        FileTokenBlacklistStore reopened = new FileTokenBlacklistStore(dir.toString(), false);
+        assertThat(reopened.fetchSince(0, 10)).extracting(RevokedToken::getVersion).containsExactly(2L);
+        assertThat(reopened.purgeExpired(10_000)).isEqualTo(1);
+        assertThat(reopened.append(4, 4, 20_000)).isEqualTo(4);
+        reopened.close();
+    }
+}
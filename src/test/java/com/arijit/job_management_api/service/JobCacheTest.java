@@ -0,0 +1,76 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.repository.JobRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JobCacheTest {
+
+    private final JobRepository repository = mock(JobRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobCache cache = new JobCache(100, Duration.ofMinutes(5));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "jobRepository", repository);
+        ReflectionTestUtils.setField(cache, "meterRegistry", meterRegistry);
+        cache.registerMetrics();
+    }
+
+    @Test
+    void readsThroughOnceAndCountsHits() {
+        when(repository.findWithSkillsById(1)).thenReturn(Optional.of(job(1, "Java")));
+
+        assertThat(cache.get(1)).hasValueSatisfying(job -> assertThat(job.getPostSkills()).containsExactly("Java"));
+        assertThat(cache.get(1)).isPresent();
+        verify(repository, times(1)).findWithSkillsById(1);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jobPosts").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void missingIdsAreNotCached() {
+        when(repository.findWithSkillsById(2)).thenReturn(Optional.empty());
+        assertThat(cache.get(2)).isEmpty();
+
+        when(repository.findWithSkillsById(2)).thenReturn(Optional.of(job(2, "Go")));
+        assertThat(cache.get(2)).isPresent();
+    }
+
+    @Test
+    void writesReplaceOrDropEntries() {
+        when(repository.findWithSkillsById(3)).thenReturn(Optional.of(job(3, "Java")));
+        cache.get(3);
+
+        JobPost updated = job(3, "Kotlin");
+        cache.index(updated);
+        // later changes to the caller's object do not leak into the cache
+        updated.getPostSkills().add("Scala");
+        assertThat(cache.get(3)).hasValueSatisfying(job -> assertThat(job.getPostSkills()).containsExactly("Kotlin"));
+
+        cache.remove(3);
+        cache.get(3);
+        verify(repository, times(2)).findWithSkillsById(3);
+    }
+
+    private static JobPost job(int id, String skill) {
+        return new JobPost(id, "Profile", "Desc", 1, new ArrayList<>(List.of(skill)));
+    }
+}
@@ -0,0 +1,190 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.arijit.job_management_api.model.JobChange;
+import com.arijit.job_management_api.model.JobChangeFeed;
+import com.arijit.job_management_api.model.JobChangeFeed.Entry;
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.repository.JobChangeRepository;
+
+@SpringBootTest
+class JobChangeLogTest {
+
+    @Autowired
+    private JobChangeLog changeLog;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobImportService importService;
+
+    @Autowired
+    private JobChangeRepository changeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void feedHoldsLatestStatePerPostAndTombstones() {
+        long start = changeLog.latestVersion();
+        jobService.addJob(job(4001, "First"));
+        jobService.updateJob(job(4001, "Second"));
+        jobService.addJob(job(4002, "Doomed"));
+        jobService.deleteJob(4002);
+        assertThat(jobService.deleteJob(4999)).isFalse();
+
+        JobChangeFeed feed = changeLog.changesSince(start, 100);
+
+        assertThat(feed.resync()).isFalse();
+        assertThat(feed.nextSince()).isEqualTo(start + 4);
+        assertThat(feed.changes()).extracting(Entry::postId, Entry::type)
+                .containsExactly(tuple(4001, JobChange.Type.UPSERT),
+                        tuple(4002, JobChange.Type.DELETE));
+        assertThat(feed.changes().get(0).job().getPostProfile()).isEqualTo("Second");
+        assertThat(feed.changes().get(1).job()).isNull();
+
+        assertThat(changeLog.changesSince(feed.nextSince(), 100).changes()).isEmpty();
+    }
+
+    @Test
+    void bulkImportsArePaged() {
+        long start = changeLog.latestVersion();
+        importService.importJobs(List.of(job(4101, "A"), job(4102, "B"), job(4103, "C")).iterator(), true);
+
+        JobChangeFeed first = changeLog.changesSince(start, 2);
+        assertThat(first.changes()).extracting(Entry::postId).containsExactly(4101, 4102);
+        JobChangeFeed second = changeLog.changesSince(first.nextSince(), 2);
+        assertThat(second.changes()).extracting(Entry::postId).containsExactly(4103);
+    }
+
+    @Test
+    void clientAheadOfTheLogMustResync() {
+        long latest = changeLog.latestVersion();
+        JobChangeFeed feed = changeLog.changesSince(latest + 10, 100);
+        assertThat(feed.resync()).isTrue();
+        assertThat(feed.nextSince()).isEqualTo(latest);
+    }
+
+    @Test
+    void recentGapIsWaitedForUntilItCommits() {
+        long start = changeLog.latestVersion();
+        jobService.addJob(job(4201, "Before"));
+        jobService.addJob(job(4202, "Late"));
+        jobService.addJob(job(4203, "After"));
+        JobChange late = uncommit(start + 2);
+
+        JobChangeFeed waiting = changeLog.changesSince(start, 100);
+        assertThat(waiting.changes()).extracting(Entry::postId).containsExactly(4201);
+        assertThat(waiting.nextSince()).isEqualTo(start + 1);
+
+        commit(late);
+        JobChangeFeed filled = changeLog.changesSince(waiting.nextSince(), 100);
+        assertThat(filled.changes()).extracting(Entry::postId).containsExactly(4202, 4203);
+        assertThat(filled.nextSince()).isEqualTo(start + 3);
+    }
+
+    @Test
+    void gapOlderThanTheSettleWindowIsSkipped() {
+        long start = changeLog.latestVersion();
+        jobService.addJob(job(4301, "Before"));
+        jobService.addJob(job(4302, "Late"));
+        jobService.addJob(job(4303, "After"));
+        JobChange late = uncommit(start + 2);
+        jdbcTemplate.update("UPDATE job_changes SET changed_at = changed_at - 60000 WHERE version = ?", start + 3);
+
+        JobChangeFeed feed = changeLog.changesSince(start, 100);
+        assertThat(feed.changes()).extracting(Entry::postId).containsExactly(4301, 4303);
+        assertThat(feed.nextSince()).isEqualTo(start + 3);
+
+        // the documented limit: a commit later than job-changes.gap-settle is not delivered
+        commit(late);
+        assertThat(changeLog.changesSince(feed.nextSince(), 100).changes()).isEmpty();
+    }
+
+    @Test
+    void changeIsDatedWhenWrittenNotWhenItsTransactionBegan() throws Exception {
+        ReflectionTestUtils.setField(changeLog, "gapSettle", Duration.ofMillis(500));
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            long start = changeLog.latestVersion();
+            CountDownLatch inserted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            // takes start + 1 and keeps it uncommitted
+            CompletableFuture<Void> pending = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+                changeLog.record(4402, JobChange.Type.UPSERT);
+                inserted.countDown();
+                awaitQuietly(release);
+            }));
+            inserted.await();
+
+            // a transaction open for longer than the settle window writes start + 2 at its end
+            transaction.executeWithoutResult(status -> {
+                changeLog.latestVersion();
+                sleepQuietly(1_000);
+                changeLog.record(4401, JobChange.Type.UPSERT);
+            });
+
+            JobChangeFeed waiting = changeLog.changesSince(start, 100);
+            assertThat(waiting.changes()).isEmpty();
+            assertThat(waiting.nextSince()).isEqualTo(start);
+
+            release.countDown();
+            pending.get();
+            assertThat(changeLog.changesSince(start, 100).changes()).extracting(Entry::postId)
+                    .containsExactly(4402, 4401);
+        } finally {
+            ReflectionTestUtils.setField(changeLog, "gapSettle", Duration.ofSeconds(5));
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // hides a change as if its transaction had not committed yet
+    private JobChange uncommit(long version) {
+        JobChange change = changeRepository.findById(version).orElseThrow();
+        changeRepository.deleteById(version);
+        return change;
+    }
+
+    private void commit(JobChange change) {
+        jdbcTemplate.update("INSERT INTO job_changes (version, post_id, change_type, changed_at) VALUES (?, ?, ?, ?)",
+                change.getVersion(), change.getPostId(), change.getChangeType().name(), change.getChangedAt());
+    }
+
+    private static JobPost job(int id, String profile) {
+        return new JobPost(id, profile, "Desc", 1, List.of("Java"));
+    }
+}
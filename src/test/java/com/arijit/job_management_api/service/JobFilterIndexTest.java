@@ -0,0 +1,96 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.arijit.job_management_api.model.JobPost;
+
+class JobFilterIndexTest {
+
+    private static final List<String> SKILLS = List.of("Java", "Spring", "SQL", "Python", "React", "Go", "Kafka", "AWS");
+
+    private final JobFilterIndex index = new JobFilterIndex();
+
+    private final List<JobPost> jobs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        for (int id = 1; id <= 500; id++) {
+            List<String> skills = new ArrayList<>();
+            for (String skill : SKILLS) {
+                if (random.nextInt(4) == 0) {
+                    skills.add(random.nextBoolean() ? skill : skill.toUpperCase());
+                }
+            }
+            Integer experience = random.nextInt(10) == 0 ? null : random.nextInt(12);
+            jobs.add(new JobPost(id, "Profile " + id, "Description " + id, experience, skills));
+        }
+        index.rebuild(jobs);
+    }
+
+    @Test
+    void matchesLinearScan() {
+        assertSameAsScan(List.of("java", "sql"), null, null, null);
+        assertSameAsScan(null, List.of("Go", "Kafka"), null, null);
+        assertSameAsScan(List.of("Spring"), List.of("AWS", "React"), 2, 6);
+        assertSameAsScan(null, null, 5, null);
+        assertSameAsScan(null, null, null, 3);
+        assertSameAsScan(List.of("Cobol"), null, null, null);
+        assertSameAsScan(null, List.of("Cobol"), null, null);
+        assertSameAsScan(null, null, 8, 2);
+        assertSameAsScan(null, null, null, null);
+    }
+
+    @Test
+    void writesAreReflectedInFilters() {
+        index.index(new JobPost(1000, "Rust Engineer", "Systems", 7, List.of("Rust", "Java")));
+        assertThat(index.filter(List.of("rust"), null, 7, 7, 10)).containsExactly(1000);
+
+        index.index(new JobPost(1000, "Rust Engineer", "Systems", 3, List.of("Rust")));
+        assertThat(index.filter(List.of("rust", "java"), null, null, null, 10)).isEmpty();
+        assertThat(index.filter(List.of("rust"), null, 3, 3, 10)).containsExactly(1000);
+
+        index.remove(1000);
+        assertThat(index.filter(List.of("rust"), null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    void limitTruncatesInIdOrder() {
+        List<Integer> all = index.filter(List.of("java"), null, null, null, 1000);
+        assertThat(index.filter(List.of("java"), null, null, null, 5)).containsExactlyElementsOf(all.subList(0, 5));
+    }
+
+    @Test
+    void mixedSignIdsComeOutInAscendingOrder() {
+        JobFilterIndex mixed = new JobFilterIndex();
+        mixed.rebuild(List.of(
+                new JobPost(7, "Seven", "Desc", 2, List.of("Java")),
+                new JobPost(-3, "Minus three", "Desc", 2, List.of("Java")),
+                new JobPost(0, "Zero", "Desc", 4, List.of("Java", "SQL")),
+                new JobPost(Integer.MIN_VALUE, "Lowest", "Desc", 2, List.of("Java")),
+                new JobPost(Integer.MAX_VALUE, "Highest", "Desc", 2, List.of("Java"))));
+
+        assertThat(mixed.filter(List.of("java"), null, null, null, 10))
+                .containsExactly(Integer.MIN_VALUE, -3, 0, 7, Integer.MAX_VALUE);
+        assertThat(mixed.filter(List.of("java"), null, null, null, 2)).containsExactly(Integer.MIN_VALUE, -3);
+        assertThat(mixed.filter(null, List.of("sql"), 4, 4, 10)).containsExactly(0);
+
+        mixed.remove(-3);
+        assertThat(mixed.filter(null, null, 2, 2, 10)).containsExactly(Integer.MIN_VALUE, 7, Integer.MAX_VALUE);
+    }
+
+    private void assertSameAsScan(List<String> allSkills, List<String> anySkills, Integer min, Integer max) {
+        List<Integer> expected = jobs.stream()
+                .filter(job -> JobFilterIndex.matches(job, allSkills, anySkills, min, max))
+                .map(JobPost::getPostId)
+                .toList();
+        assertThat(index.filter(allSkills, anySkills, min, max, Integer.MAX_VALUE)).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,93 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.arijit.job_management_api.model.JobImportResult;
+import com.arijit.job_management_api.model.JobImportResult.RecordError;
+import com.arijit.job_management_api.repository.JobRepository;
+
+@SpringBootTest
+@TestPropertySource(properties = "jobs.import.chunk-size=50")
+class JobImportServiceTest {
+
+    @Autowired
+    private JobImportService importService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobSearchIndex searchIndex;
+
+    @Test
+    void ndjsonImportReportsBadLinesAndKeepsTheRestOfTheChunk() throws Exception {
+        String body = IntStream.rangeClosed(1001, 1120).mapToObj(JobImportServiceTest::job)
+                .collect(Collectors.joining("\n"))
+                + "\n\n{not json}\n"
+                + job(1005) + "\n"
+                + "{\"postProfile\":\"No id\"}\n";
+
+        JobImportResult result = importService.importNdjson(stream(body), false);
+
+        assertThat(result.getReceived()).isEqualTo(123);
+        assertThat(result.getImported()).isEqualTo(120);
+        assertThat(result.getErrors()).extracting(RecordError::record).containsExactly(122, 123, 124);
+        assertThat(result.getErrors().get(1).postId()).isEqualTo(1005);
+        assertThat(jobRepository.findAllWithSkillsByIdIn(List.of(1001, 1120)))
+                .allSatisfy(job -> assertThat(job.getPostSkills()).containsExactlyInAnyOrder("Kotlin", "Gradle"));
+        assertThat(searchIndex.search("bulkprofile1077", 10)).containsExactly(1077);
+    }
+
+    @Test
+    void jsonArrayImportSupportsUpsert() throws Exception {
+        String body = "[" + job(2001) + "," + job(2002) + ",{\"postId\":\"x\"}]";
+        JobImportResult first = importService.importJsonArray(stream(body), false);
+        assertThat(first.getImported()).isEqualTo(2);
+        assertThat(first.getErrors()).extracting(RecordError::record).containsExactly(3);
+
+        JobImportResult again = importService.importJsonArray(stream("[" + job(2001) + "]"), false);
+        assertThat(again.getFailed()).isEqualTo(1);
+
+        String changed = "[{\"postId\":2001,\"postProfile\":\"Renamed\",\"reqExperience\":9,\"postSkills\":[\"Go\"]}]";
+        JobImportResult upserted = importService.importJsonArray(stream(changed), true);
+        assertThat(upserted.getImported()).isEqualTo(1);
+        assertThat(jobRepository.findById(2001)).hasValueSatisfying(job -> {
+            assertThat(job.getPostProfile()).isEqualTo("Renamed");
+            assertThat(job.getReqExperience()).isEqualTo(9);
+        });
+    }
+
+    @Test
+    void zeroAndNegativeIdsImportLikeAnyOther() throws Exception {
+        JobImportResult ndjson = importService.importNdjson(stream(job(0) + "\n" + job(-1)), false);
+        assertThat(ndjson.getImported()).isEqualTo(2);
+        assertThat(ndjson.getErrors()).isEmpty();
+
+        JobImportResult array = importService.importJsonArray(stream("[" + job(-2) + ",{\"postId\":null}]"), false);
+        assertThat(array.getImported()).isEqualTo(1);
+        assertThat(array.getErrors()).extracting(RecordError::record).containsExactly(2);
+
+        assertThat(jobRepository.findAllWithSkillsByIdIn(List.of(0, -1, -2)))
+                .extracting(job -> job.getPostId()).containsExactlyInAnyOrder(0, -1, -2);
+    }
+
+    private static String job(int id) {
+        return "{\"postId\":" + id + ",\"postProfile\":\"BulkProfile" + id + "\",\"postDesc\":\"Imported\","
+                + "\"reqExperience\":2,\"postSkills\":[\"Kotlin\",\"Gradle\"]}";
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.service.JobResponseCache.CachedResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JobResponseCacheTest {
+
+    private final JobResponseCache cache = new JobResponseCache(DataSize.ofMegabytes(1), DataSize.ofKilobytes(4), DataSize.ofBytes(200));
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        cache.registerMetrics();
+    }
+
+    @Test
+    void reusesBytesUntilAWriteBumpsTheGeneration() {
+        CachedResponse first = cache.get("job", this::writeSmallJob);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).contains("\"postId\":1");
+        assertThat(cache.get("job", this::writeSmallJob)).isSameAs(first);
+        assertThat(renders).hasValue(1);
+
+        cache.invalidate();
+        CachedResponse second = cache.get("job", this::writeSmallJob);
+        assertThat(renders).hasValue(2);
+        // same content, same ETag
+        assertThat(second.etag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    void onlyLargeBodiesGetAGzipCopy() throws Exception {
+        assertThat(cache.get("small", this::writeSmallJob).gzip()).isNull();
+
+        CachedResponse large = cache.get("large", generator -> generator.writeObject(job("x".repeat(1_000))));
+        assertThat(large.gzip()).isNotNull();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.json());
+        }
+        assertThat(large.toResponse("gzip, deflate").getHeaders().getETag()).isEqualTo("\"" + large.etag() + "-gzip\"");
+        assertThat(large.toResponse(null).getBody()).isEqualTo(large.json());
+    }
+
+    @Test
+    void gzipIsOnlySentWhenItsQualityIsAboveZero() {
+        CachedResponse large = cache.get("large", generator -> generator.writeObject(job("x".repeat(1_000))));
+
+        assertThat(large.toResponse("gzip;q=0, deflate").getBody()).isEqualTo(large.json());
+        assertThat(large.toResponse("deflate, GZIP ; q=0.0").getBody()).isEqualTo(large.json());
+        assertThat(large.toResponse("*;q=0").getBody()).isEqualTo(large.json());
+        assertThat(large.toResponse("deflate").getBody()).isEqualTo(large.json());
+        assertThat(large.toResponse("gzip;q=0.5").getBody()).isEqualTo(large.gzip());
+        assertThat(large.toResponse("gzip;q=1, *;q=0").getBody()).isEqualTo(large.gzip());
+        assertThat(large.toResponse("br, *").getBody()).isEqualTo(large.gzip());
+    }
+
+    @Test
+    void oversizedBodiesAreNotCachedOrRenderedTwicePerGeneration() {
+        JobResponseCache.BodyWriter huge = generator -> {
+            renders.incrementAndGet();
+            generator.writeObject(job("y".repeat(10_000)));
+        };
+        assertThat(cache.get("huge", huge)).isNull();
+        assertThat(cache.get("huge", huge)).isNull();
+        assertThat(renders).hasValue(1);
+
+        cache.invalidate();
+        assertThat(cache.get("huge", huge)).isNull();
+        assertThat(renders).hasValue(2);
+    }
+
+    private void writeSmallJob(JsonGenerator generator) throws IOException {
+        renders.incrementAndGet();
+        generator.writeObject(job("Engineer"));
+    }
+
+    private static JobPost job(String profile) {
+        return new JobPost(1, profile, "Desc", 2, List.of("Java"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.repository.JobRepository;
+
+@DataJpaTest
+class JobSearchIndexTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final JobSearchIndex index = new JobSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.saveAll(List.of(
+                new JobPost(1, "Software Engineer", "Build backend services in Java.", 3, List.of("Java", "Spring", "SQL")),
+                new JobPost(2, "Data Scientist", "Train models and write Python pipelines.", 5, List.of("Python", "Machine Learning")),
+                new JobPost(3, "Frontend Developer", "Create user interfaces with JavaScript.", 2, List.of("JavaScript", "React", "CSS")),
+                new JobPost(4, "Network Engineer", "Maintain our network infrastructure.", 4, List.of("Cisco", "Routing")),
+                new JobPost(5, "Java Engineer", "Senior Java engineer for the Java platform team.", 6, List.of("Java", "Kafka")),
+                new JobPost(6, "QA Analyst", "Test software releases.", 1, List.of("Selenium", "Java"))
+        ));
+        jobRepository.flush();
+        index.rebuild(jobRepository.findAllWithSkills());
+    }
+
+    @Test
+    void ranksProfileMatchesAboveDescriptionAndSkillMatches() {
+        List<Integer> ids = index.search("java", 10);
+
+        assertThat(ids.get(0)).isEqualTo(5);
+        assertThat(ids).containsExactlyInAnyOrder(1, 3, 5, 6);
+    }
+
+    @Test
+    void limitKeepsOnlyTheBestResults() {
+        assertThat(index.search("engineer", 2)).containsExactly(5, 1);
+        assertThat(index.search("engineer", 1)).containsExactly(5);
+    }
+
+    @Test
+    void incrementalUpdatesAreVisible() {
+        index.index(new JobPost(7, "Rust Engineer", "Systems programming.", 3, List.of("Rust")));
+        assertThat(index.search("rust", 10)).containsExactly(7);
+
+        index.index(new JobPost(7, "Go Engineer", "Systems programming.", 3, List.of("Go")));
+        assertThat(index.search("rust", 10)).isEmpty();
+
+        index.remove(5);
+        assertThat(index.search("kafka", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @Test
+    void agreesWithLikeQueryOnProfileAndDescription() {
+        Set<String> vocabulary = jobRepository.findAllWithSkills().stream()
+                .flatMap(job -> Stream.of(job.getPostProfile(), job.getPostDesc()))
+                .flatMap(text -> JobSearchIndex.tokenize(text).stream())
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        for (String word : vocabulary) {
+            List<JobPost> likeHits = jobRepository.searchJob(word);
+            List<JobPost> indexHits = jobRepository.findAllWithSkillsByIdIn(index.search(word, 100));
+
+            // every LIKE hit on a word boundary must be found by the index
+            assertThat(idsMatchingText(indexHits, word)).as("results for '%s'", word)
+                    .isEqualTo(idsMatchingText(likeHits, word));
+
+            // anything the LIKE query misses must come from the skills field
+            Set<Integer> likeIds = likeHits.stream().map(JobPost::getPostId).collect(Collectors.toSet());
+            assertThat(indexHits).filteredOn(job -> !likeIds.contains(job.getPostId()))
+                    .allMatch(job -> job.getPostSkills().stream().anyMatch(skill -> hasWordWithPrefix(skill, word)));
+        }
+    }
+
+    private static Set<Integer> idsMatchingText(List<JobPost> jobs, String word) {
+        return jobs.stream()
+                .filter(job -> hasWordWithPrefix(job.getPostProfile(), word) || hasWordWithPrefix(job.getPostDesc(), word))
+                .map(JobPost::getPostId)
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean hasWordWithPrefix(String text, String prefix) {
+        return JobSearchIndex.tokenize(text).stream().anyMatch(token -> token.startsWith(prefix));
+    }
+}
@@ -0,0 +1,41 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.arijit.job_management_api.model.JobPost;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {"job-snapshot.enabled=true", "job-snapshot.refresh-interval-ms=3600000"})
+class JobSnapshotStoreTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobSnapshotStore snapshotStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readsComeFromTheSnapshotUntilItIsRefreshed() {
+        jobService.addJob(new JobPost(6001, "Snapshot Engineer", "Desc", 3, List.of("Java", "SQL")));
+        assertThat(jobService.getJob(6001).getPostId()).isZero();
+
+        snapshotStore.refresh();
+        JobPost job = jobService.getJob(6001);
+        assertThat(job.getPostProfile()).isEqualTo("Snapshot Engineer");
+        assertThat(job.getPostSkills()).containsExactly("Java", "SQL");
+        assertThat(jobService.getJobsPage(6000, 10).items()).extracting(JobPost::getPostId).contains(6001);
+
+        assertThat(meterRegistry.get("job.snapshot.memory").tag("layout", "columnar").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("job.snapshot.memory").tag("layout", "entities").gauge().value()).isPositive();
+    }
+}
@@ -0,0 +1,60 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.arijit.job_management_api.model.JobPage;
+import com.arijit.job_management_api.model.JobPost;
+
+class JobSnapshotTest {
+
+    @Test
+    void returnsPostsAsTheyWereIncludingNullsAndNonLatinText() {
+        List<JobPost> jobs = List.of(
+                new JobPost(30, "Ingénieur logiciel", "Développer des API 🚀", 4, List.of("Java", "Spring")),
+                new JobPost(10, null, null, null, null),
+                new JobPost(20, "", "", 0, new ArrayList<>()));
+        JobSnapshot snapshot = JobSnapshot.of(jobs);
+
+        assertThat(snapshot.size()).isEqualTo(3);
+        for (JobPost job : jobs) {
+            assertThat(snapshot.get(job.getPostId())).contains(job);
+        }
+        assertThat(snapshot.get(15)).isEmpty();
+        assertThat(snapshot.getAll(List.of(30, 99, 10))).extracting(JobPost::getPostId).containsExactly(30, 10);
+    }
+
+    @Test
+    void pagesFollowTheKeysetContract() {
+        JobSnapshot snapshot = JobSnapshot.of(IntStream.rangeClosed(1, 25)
+                .mapToObj(id -> new JobPost(id * 2, "Profile", "Desc", 1, List.of("Go"))).toList());
+
+        JobPage<JobPost> first = snapshot.page(0, 10);
+        assertThat(first.items()).extracting(JobPost::getPostId).startsWith(2, 4).hasSize(10);
+        assertThat(first.nextAfter()).isEqualTo(20);
+        // an id between posts continues after it
+        assertThat(snapshot.page(21, 10).items()).first().extracting(JobPost::getPostId).isEqualTo(22);
+
+        JobPage<JobPost> last = snapshot.page(40, 10);
+        assertThat(last.items()).extracting(JobPost::getPostId).containsExactly(42, 44, 46, 48, 50);
+        assertThat(last.nextAfter()).isNull();
+        assertThat(snapshot.page(50, 10).items()).isEmpty();
+    }
+
+    @Test
+    void repeatedSkillsAreStoredOnce() {
+        String[] skills = {"Java", "SQL", "Kubernetes", "Python"};
+        JobSnapshot snapshot = JobSnapshot.of(IntStream.rangeClosed(1, 10_000)
+                .mapToObj(id -> new JobPost(id, "Backend Developer", "Build and run our services", id % 15,
+                        List.of(skills[id % 4], skills[(id + 1) % 4])))
+                .toList());
+
+        assertThat(snapshot.distinctSkills()).isEqualTo(4);
+        assertThat(snapshot.footprintBytes()).isLessThan(snapshot.entityGraphBytes() / 3);
+    }
+}
@@ -0,0 +1,56 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.JobSuggestion;
+
+class JobSuggestIndexTest {
+
+    @Test
+    void completesPrefixesMostFrequentFirst() {
+        JobSuggestIndex index = new JobSuggestIndex();
+        index.rebuild(List.of(
+                job(1, "Java Developer", "Java", "Spring"),
+                job(2, "Data Engineer", "java", "Kafka"),
+                job(3, "Frontend Developer", "JavaScript"),
+                job(4, "Backend Developer", "Java", "JavaScript")));
+
+        assertThat(index.suggest("JAV", 10)).containsExactly(
+                new JobSuggestion("Java", 3),
+                new JobSuggestion("JavaScript", 2),
+                new JobSuggestion("Java Developer", 1));
+        assertThat(index.suggest("java", 1)).containsExactly(new JobSuggestion("Java", 3));
+        assertThat(index.suggest("rust", 10)).isEmpty();
+        assertThat(index.suggest("", 2)).containsExactly(
+                new JobSuggestion("Java", 3), new JobSuggestion("JavaScript", 2));
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        JobSuggestIndex index = new JobSuggestIndex();
+        index.rebuild(List.of(job(1, "Java Developer", "Java"), job(2, "Go Developer", "Go")));
+
+        index.index(job(1, "Kotlin Developer", "Kotlin", "Java"));
+        assertThat(index.suggest("j", 10)).containsExactly(new JobSuggestion("Java", 1));
+        assertThat(index.suggest("k", 10)).containsExactly(
+                new JobSuggestion("Kotlin", 1), new JobSuggestion("Kotlin Developer", 1));
+
+        index.remove(1);
+        assertThat(index.suggest("j", 10)).isEmpty();
+        assertThat(index.suggest("k", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+
+        index.indexAll(List.of(job(3, "Go Developer", "Go"), job(4, null)));
+        assertThat(index.suggest("go", 10)).containsExactly(
+                new JobSuggestion("Go", 2), new JobSuggestion("Go Developer", 2));
+    }
+
+    private static JobPost job(int id, String profile, String... skills) {
+        return new JobPost(id, profile, "Desc", 1, List.of(skills));
+    }
+}
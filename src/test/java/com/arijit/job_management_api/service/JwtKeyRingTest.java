@@ -0,0 +1,99 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jsonwebtoken.JwtException;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = JwtService.generateSecretKey();
+    private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void nodesSharingASecretAcceptEachOthersTokens() {
+        JwtService first = new JwtService(ring("main:" + SECRET, START));
+        JwtService second = new JwtService(ring("main:" + SECRET, START));
+
+        assertThat(second.verifyToken(first.generateToken("alice")).subject()).isEqualTo("alice");
+        assertThat(first.verifyToken(second.generateRefreshToken("bob")).refresh()).isTrue();
+    }
+
+    @Test
+    void rotatedKeysAreAcceptedUntilTheGracePeriodEnds() {
+        JwtKeyRing signer = ring("main:" + SECRET, START);
+        String token = new JwtService(signer).generateToken("alice");
+
+        JwtKeyRing threeDaysLater = ring("main:" + SECRET, START.plus(Duration.ofDays(3)));
+        assertThat(threeDaysLater.signingKey().id()).isNotEqualTo(signer.signingKey().id());
+        assertThat(new JwtService(threeDaysLater).verifyToken(token).subject()).isEqualTo("alice");
+
+        JwtService nineDaysLater = new JwtService(ring("main:" + SECRET, START.plus(Duration.ofDays(9))));
+        assertThatThrownBy(() -> nineDaysLater.verifyToken(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void retiredSecretsOnlyVerify() {
+        String token = new JwtService(ring("old:" + SECRET, START)).generateToken("alice");
+        JwtKeyRing replaced = ring("new:" + JwtService.generateSecretKey() + ",old:" + SECRET, START);
+
+        assertThat(replaced.signingKey().id()).startsWith("new.");
+        assertThat(new JwtService(replaced).verifyToken(token).subject()).isEqualTo("alice");
+    }
+
+    @Test
+    void tokensFromAnotherSecretAreRejected() {
+        String token = new JwtService(ring("main:" + SECRET, START)).generateToken("alice");
+        JwtService other = new JwtService(ring("main:" + JwtService.generateSecretKey(), START));
+
+        assertThatThrownBy(() -> other.verifyToken(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void loadsSecretsFromKeystore() throws Exception {
+        KeyStore keystore = KeyStore.getInstance("PKCS12");
+        keystore.load(null, null);
+        KeyStore.PasswordProtection protection = new KeyStore.PasswordProtection("changeit".toCharArray());
+        keystore.setEntry("current", new KeyStore.SecretKeyEntry(
+                new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA256")), protection);
+        keystore.setEntry("previous", new KeyStore.SecretKeyEntry(
+                new SecretKeySpec(Base64.getDecoder().decode(JwtService.generateSecretKey()), "HmacSHA256")), protection);
+        Path file = dir.resolve("jwt.p12");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            keystore.store(out, "changeit".toCharArray());
+        }
+
+        JwtKeyRing fromKeystore = new JwtKeyRing("", file.toString(), "changeit", "current", Duration.ofDays(1),
+                Duration.ofDays(7), clock(START));
+        String token = new JwtService(fromKeystore).generateToken("alice");
+
+        assertThat(fromKeystore.signingKey().id()).startsWith("current.");
+        assertThat(new JwtService(ring("current:" + SECRET, START)).verifyToken(token).subject()).isEqualTo("alice");
+    }
+
+    private static JwtKeyRing ring(String secrets, Instant now) {
+        return new JwtKeyRing(secrets, "", "", "", Duration.ofDays(1), Duration.ofDays(7), clock(now));
+    }
+
+    private static Clock clock(Instant now) {
+        return Clock.fixed(now, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,113 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jsonwebtoken.JwtException;
+
+class JwtServiceTest {
+
+    private static final String OLD_SECRET = JwtService.generateSecretKey();
+    private static final String NEW_SECRET = JwtService.generateSecretKey();
+    private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void accessTokensIssuedTogetherAreDistinct() {
+        JwtService jwtService = new JwtService(OLD_SECRET);
+
+        assertThat(jwtService.generateToken("alice")).isNotEqualTo(jwtService.generateToken("alice"));
+    }
+
+    @Test
+    void verifiedTokenIsRejectedOnceItsSecretIsRemovedFromTheKeystore() throws Exception {
+        Path file = dir.resolve("jwt.p12");
+        writeKeystore(file, Map.of("old", OLD_SECRET, "new", NEW_SECRET));
+        Clock clock = Clock.fixed(START, ZoneOffset.UTC);
+        JwtKeyRing ring = new JwtKeyRing("", file.toString(), "changeit", "new", Duration.ofDays(1),
+                Duration.ofDays(7), clock);
+        JwtService jwtService = new JwtService(ring);
+        String token = new JwtService(new JwtKeyRing("old:" + OLD_SECRET, "", "", "", Duration.ofDays(1),
+                Duration.ofDays(7), clock)).generateToken("alice");
+        assertThat(jwtService.verifyToken(token).subject()).isEqualTo("alice");
+
+        writeKeystore(file, Map.of("new", NEW_SECRET));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        ring.refresh();
+
+        assertThatThrownBy(() -> jwtService.verifyToken(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void verifiedTokenIsRejectedOnceItsKeyLeavesTheGracePeriod() {
+        SettableClock clock = new SettableClock(START);
+        JwtKeyRing ring = new JwtKeyRing("main:" + OLD_SECRET, "", "", "", Duration.ofDays(1), Duration.ofDays(7),
+                clock);
+        JwtService jwtService = new JwtService(ring);
+        String token = jwtService.generateRefreshToken("alice");
+        assertThat(jwtService.verifyToken(token).refresh()).isTrue();
+
+        clock.now = START.plus(Duration.ofDays(3));
+        assertThat(jwtService.verifyToken(token).subject()).isEqualTo("alice");
+
+        clock.now = START.plus(Duration.ofDays(9));
+        assertThatThrownBy(() -> jwtService.verifyToken(token)).isInstanceOf(JwtException.class);
+    }
+
+    private static void writeKeystore(Path file, Map<String, String> secrets) throws Exception {
+        KeyStore keystore = KeyStore.getInstance("PKCS12");
+        keystore.load(null, null);
+        KeyStore.PasswordProtection protection = new KeyStore.PasswordProtection("changeit".toCharArray());
+        for (Map.Entry<String, String> secret : secrets.entrySet()) {
+            keystore.setEntry(secret.getKey(), new KeyStore.SecretKeyEntry(
+                    new SecretKeySpec(Base64.getDecoder().decode(secret.getValue()), "HmacSHA256")), protection);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            keystore.store(out, "changeit".toCharArray());
+        }
+    }
+
+    private static final class SettableClock extends Clock {
+
+        private volatile Instant now;
+
+        SettableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
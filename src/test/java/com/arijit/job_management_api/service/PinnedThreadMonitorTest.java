@@ -0,0 +1,53 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PinnedThreadMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PinnedThreadMonitor monitor = new PinnedThreadMonitor(Duration.ofMillis(10));
+    private final Object lock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void countsVirtualThreadsBlockedInsideSynchronized() throws Exception {
+        ReflectionTestUtils.setField(monitor, "meterRegistry", meterRegistry);
+        monitor.start();
+
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        Counter pinned = null;
+        while (pinned == null && System.nanoTime() < deadline) {
+            pinned = meterRegistry.find("jvm.threads.virtual.pinned")
+                    .tag("frame", PinnedThreadMonitorTest.class.getName() + ".sleepWhileHoldingMonitor")
+                    .counter();
+            Thread.sleep(100);
+        }
+        assertThat(pinned).isNotNull();
+        assertThat(pinned.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
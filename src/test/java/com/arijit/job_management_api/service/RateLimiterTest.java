@@ -0,0 +1,63 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void admitsTheBurstThenAsksToWaitForTheNextPermit() {
+        RateLimiter limiter = new RateLimiter(2, 3);
+        long now = 10 * SECOND;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("alice", now)).isZero();
+        }
+        assertThat(limiter.tryAcquire("alice", now)).isEqualTo(SECOND / 2);
+        // a refused request does not use up a permit
+        assertThat(limiter.tryAcquire("alice", now + SECOND / 2)).isZero();
+        assertThat(limiter.tryAcquire("alice", now + SECOND / 2)).isPositive();
+    }
+
+    @Test
+    void keysHaveSeparateBuckets() {
+        RateLimiter limiter = new RateLimiter(1, 1);
+
+        assertThat(limiter.tryAcquire("alice", 0)).isZero();
+        assertThat(limiter.tryAcquire("alice", 0)).isPositive();
+        assertThat(limiter.tryAcquire("bob", 0)).isZero();
+    }
+
+    @Test
+    void refillsAtTheConfiguredRateUpToTheBurst() {
+        RateLimiter limiter = new RateLimiter(10, 5);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("alice", 0);
+        }
+
+        long later = 60 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("alice", later)).isZero();
+        }
+        assertThat(limiter.tryAcquire("alice", later)).isPositive();
+    }
+
+    @Test
+    void evictsOnlyFullBuckets() {
+        RateLimiter limiter = new RateLimiter(1, 10);
+        limiter.tryAcquire("idle", 0);
+        limiter.tryAcquire("busy", 0);
+        limiter.tryAcquire("busy", 5 * SECOND);
+
+        assertThat(limiter.evictIdle(3 * SECOND)).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+        // the busy key keeps its state
+        for (int i = 0; i < 9; i++) {
+            assertThat(limiter.tryAcquire("busy", 5 * SECOND)).isZero();
+        }
+        assertThat(limiter.tryAcquire("busy", 5 * SECOND)).isPositive();
+    }
+}
@@ -0,0 +1,94 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestDeadlineTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private Connection connection;
+
+    @BeforeEach
+    void connect() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:request-deadline-test");
+    }
+
+    @AfterEach
+    void disconnect() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void remainingTimeBecomesTheQueryTimeoutRoundedUp() throws SQLException {
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + 1500 * SECOND / 1000);
+        Statement statement = connection.createStatement();
+
+        deadline.register(statement);
+
+        assertThat(statement.getQueryTimeout()).isEqualTo(2);
+    }
+
+    @Test
+    void cancelStopsARunningQuery() throws Exception {
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + 60 * SECOND);
+        Statement statement = connection.createStatement();
+        deadline.register(statement);
+
+        CompletableFuture<Integer> cancelled = CompletableFuture.supplyAsync(deadline::cancel,
+                CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+        assertThatThrownBy(() -> statement.executeQuery("SELECT SUM(X) FROM SYSTEM_RANGE(1, 10000000000)"))
+                .isInstanceOf(SQLException.class);
+
+        assertThat(cancelled.get()).isEqualTo(1);
+        assertThat(deadline.isExpired()).isTrue();
+    }
+
+    @Test
+    void closedStatementsAreNotCancelled() throws SQLException {
+        RequestDeadline deadline = new RequestDeadline(System.nanoTime() + 60 * SECOND);
+        Statement statement = connection.createStatement();
+        deadline.register(statement);
+        statement.close();
+
+        assertThat(deadline.cancel()).isZero();
+    }
+
+    @Test
+    void refusesStatementsOnceExpired() throws SQLException {
+        RequestDeadline passed = new RequestDeadline(System.nanoTime() - 1);
+        Statement statement = connection.createStatement();
+
+        assertThatThrownBy(() -> passed.register(statement)).isInstanceOf(SQLTimeoutException.class);
+        assertThat(statement.isClosed()).isTrue();
+
+        RequestDeadline cancelled = new RequestDeadline(System.nanoTime() + 60 * SECOND);
+        cancelled.cancel();
+        assertThatThrownBy(() -> cancelled.register(connection.createStatement()))
+                .isInstanceOf(SQLTimeoutException.class);
+    }
+
+    @Test
+    void bindReturnsThePreviousDeadline() {
+        RequestDeadline outer = new RequestDeadline(0);
+        RequestDeadline inner = new RequestDeadline(0);
+
+        assertThat(RequestDeadline.bind(outer)).isNull();
+        assertThat(RequestDeadline.bind(inner)).isSameAs(outer);
+        assertThat(RequestDeadline.current()).isSameAs(inner);
+        RequestDeadline.bind(null);
+        assertThat(RequestDeadline.current()).isNull();
+    }
+}
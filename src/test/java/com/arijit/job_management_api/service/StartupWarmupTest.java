@@ -0,0 +1,32 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {"warmup.enabled=true", "warmup.iterations=20", "warmup.preload-jobs=10"})
+class StartupWarmupTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    void runsEveryStepBeforeTheApplicationIsReady() {
+        for (String step : List.of("pool", "preload", "tokens", "serialization", "reads", "search", "total")) {
+            assertThat(meterRegistry.get("application.warmup").tag("step", step).timer().count())
+                    .as(step).isEqualTo(1);
+        }
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+}
@@ -0,0 +1,97 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import com.arijit.job_management_api.model.JobPost;
+import com.arijit.job_management_api.model.SyntheticDataResult;
+import com.arijit.job_management_api.model.User;
+import com.arijit.job_management_api.repository.JobRepository;
+import com.arijit.job_management_api.repository.UserRepo;
+
+// same context as JobImportServiceTest
+@SpringBootTest
+@TestPropertySource(properties = "jobs.import.chunk-size=50")
+class SyntheticDataGeneratorTest {
+
+    private static final int FIRST_ID = 5001;
+    private static final int JOBS = 230;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private BCryptPasswordEncoder encoder;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    void postsDependOnlyOnSeedAndId() {
+        assertThat(SyntheticDataGenerator.job(7, 123)).isEqualTo(SyntheticDataGenerator.job(7, 123));
+        assertThat(SyntheticDataGenerator.job(7, 123)).isNotEqualTo(SyntheticDataGenerator.job(8, 123));
+    }
+
+    @Test
+    void skillsAreSkewedAndPostsLookPlausible() {
+        Map<String, Integer> skillCounts = new HashMap<>();
+        for (int id = 1; id <= 10_000; id++) {
+            JobPost job = SyntheticDataGenerator.job(42, id);
+            assertThat(job.getPostSkills()).hasSizeBetween(1, 7).doesNotHaveDuplicates();
+            assertThat(job.getReqExperience()).isBetween(0, 20);
+            assertThat(job.getPostDesc()).hasSizeLessThanOrEqualTo(255);
+            assertThat(job.getPostDesc().split(" ")).hasSizeGreaterThanOrEqualTo(5);
+            job.getPostSkills().forEach(skill -> skillCounts.merge(skill, 1, Integer::sum));
+        }
+        // the most common skill is far more frequent than the rarest ones
+        assertThat(skillCounts.get("Java")).isGreaterThan(10 * skillCounts.getOrDefault("Solidity", 0));
+        assertThat(skillCounts).hasSizeGreaterThan(100);
+    }
+
+    @Test
+    void writesReproducibleJobsAndUsersOnce() {
+        // a lookup before the user exists is cached as unknown
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(SyntheticDataGenerator.username(120)))
+                .isInstanceOf(UsernameNotFoundException.class);
+
+        SyntheticDataResult result = generator.generate(JOBS, 120, 42, FIRST_ID);
+
+        assertThat(result.jobs()).isEqualTo(JOBS);
+        assertThat(result.failed()).isZero();
+        assertThat(result.users()).isEqualTo(120);
+        List<JobPost> stored = jobRepository.findAllWithSkillsByIdIn(List.of(FIRST_ID, FIRST_ID + JOBS - 1));
+        assertThat(stored).hasSize(2).allSatisfy(job -> {
+            JobPost expected = SyntheticDataGenerator.job(42, job.getPostId());
+            assertThat(job.getPostProfile()).isEqualTo(expected.getPostProfile());
+            assertThat(job.getPostSkills()).containsExactlyInAnyOrderElementsOf(expected.getPostSkills());
+        });
+        assertThat(IntStream.rangeClosed(1, 120).mapToObj(SyntheticDataGenerator::username)
+                .map(userRepo::findByUsername)).doesNotContainNull();
+        User user = userRepo.findByUsername(SyntheticDataGenerator.username(120));
+        assertThat(encoder.matches(SyntheticDataGenerator.PASSWORD, user.getPassword())).isTrue();
+        assertThat(userDetailsService.loadUserByUsername(SyntheticDataGenerator.username(120)).getUsername())
+                .isEqualTo(SyntheticDataGenerator.username(120));
+
+        assertThatThrownBy(() -> generator.generate(10, 0, 42, FIRST_ID + JOBS - 1))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> generator.generate(0, 5, 42, 1)).isInstanceOf(IllegalStateException.class);
+    }
+}
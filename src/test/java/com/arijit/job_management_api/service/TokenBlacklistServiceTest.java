@@ -0,0 +1,164 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.arijit.job_management_api.model.RevokedToken;
+
+class TokenBlacklistServiceTest {
+
+    private static final long HOUR = 3_600_000;
+
+    private final FakeStore store = new FakeStore();
+    private final TokenBlacklistService service = new TokenBlacklistService(false, 2, Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "store", store);
+    }
+
+    @Test
+    void recentGapHoldsTheCursorUntilItFillsIn() {
+        long now = System.currentTimeMillis();
+        store.commit(1, now + HOUR, now);
+        store.commit(2, now + HOUR, now);
+        store.commit(3, now + HOUR, now);
+        // 4 is still in flight on another node
+        store.commit(5, now + HOUR, now);
+        store.commit(6, now - 1, now);
+
+        service.syncFromStore();
+        assertBlacklisted(1, 2, 3, 5);
+        assertThat(store.requestedAfter).containsExactly(0L, 2L);
+
+        service.syncFromStore();
+        assertThat(store.requestedAfter).endsWith(3L);
+        assertBlacklisted(1, 2, 3, 5);
+
+        store.commit(4, now + HOUR, now);
+        service.syncFromStore();
+        assertBlacklisted(1, 2, 3, 4, 5);
+        assertThat(service.isTokenBlacklisted(token(6))).isFalse();
+
+        store.requestedAfter.clear();
+        service.syncFromStore();
+        assertThat(store.requestedAfter).containsExactly(6L);
+    }
+
+    @Test
+    void settledGapIsSkipped() {
+        long now = System.currentTimeMillis();
+        store.commit(1, now + HOUR, now - 60_000);
+        // 2 was rolled back and will never appear
+        store.commit(3, now + HOUR, now - 60_000);
+        store.commit(4, now + HOUR, now);
+
+        service.syncFromStore();
+        assertBlacklisted(1, 3, 4);
+
+        store.requestedAfter.clear();
+        service.syncFromStore();
+        assertThat(store.requestedAfter).containsExactly(4L);
+    }
+
+    @Test
+    void gapIsJudgedByTheStoreClockNotThisNodes() {
+        // this node's clock runs an hour ahead of the store's
+        store.clockOffset = -HOUR;
+        long storeNow = store.currentTimeMillis();
+        store.commit(1, storeNow + 2 * HOUR, storeNow);
+        store.commit(3, storeNow + 2 * HOUR, storeNow);
+
+        service.syncFromStore();
+        assertBlacklisted(1, 3);
+
+        store.requestedAfter.clear();
+        service.syncFromStore();
+        assertThat(store.requestedAfter).containsExactly(1L);
+    }
+
+    @Test
+    void onlyOneNodeRevokesATokenFirst() {
+        JwtService jwtService = new JwtService(JwtService.generateSecretKey());
+        TokenBlacklistService otherNode = new TokenBlacklistService(false, 2, Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(otherNode, "store", store);
+        ReflectionTestUtils.setField(otherNode, "jwtService", jwtService);
+        ReflectionTestUtils.setField(service, "jwtService", jwtService);
+        String refreshToken = jwtService.generateRefreshToken("alice");
+
+        assertThat(service.blacklistToken(refreshToken)).isTrue();
+        assertThat(otherNode.blacklistToken(refreshToken)).isFalse();
+        assertThat(otherNode.isTokenBlacklisted(refreshToken)).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    private void assertBlacklisted(long... versions) {
+        for (long version : versions) {
+            assertThat(service.isTokenBlacklisted(token(version))).as("token %d", version).isTrue();
+        }
+        assertThat(service.getBlacklistSize().local()).isEqualTo(versions.length);
+    }
+
+    private static String token(long version) {
+        return "token-" + version;
+    }
+
+    /**
+     * Store whose rows become visible in commit order rather than version
+     * order, like a shared database with concurrent writers.
+     */
+    private static final class FakeStore implements TokenBlacklistStore {
+
+        private final NavigableMap<Long, RevokedToken> committed = new TreeMap<>();
+        private final List<Long> requestedAfter = new ArrayList<>();
+        private long clockOffset;
+
+        void commit(long version, long expiresAt, long revokedAt) {
+            String token = token(version);
+            committed.put(version, new RevokedToken(version, TokenDigestSet.hashHi(token), TokenDigestSet.hashLo(token),
+                    expiresAt, revokedAt));
+        }
+
+        @Override
+        public long append(long digestHi, long digestLo, long expiresAt) {
+            boolean stored = committed.values().stream()
+                    .anyMatch(revoked -> revoked.getDigestHi() == digestHi && revoked.getDigestLo() == digestLo);
+            if (stored) {
+                return ALREADY_REVOKED;
+            }
+            long version = committed.isEmpty() ? 1 : committed.lastKey() + 1;
+            committed.put(version, new RevokedToken(version, digestHi, digestLo, expiresAt, currentTimeMillis()));
+            return version;
+        }
+
+        @Override
+        public List<RevokedToken> fetchSince(long afterVersion, int limit) {
+            requestedAfter.add(afterVersion);
+            return committed.tailMap(afterVersion, false).values().stream().limit(limit).toList();
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis() + clockOffset;
+        }
+
+        @Override
+        public long size() {
+            return committed.size();
+        }
+
+        @Override
+        public int purgeExpired(long now) {
+            return 0;
+        }
+    }
+}
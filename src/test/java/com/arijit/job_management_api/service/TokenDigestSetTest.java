@@ -0,0 +1,72 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TokenDigestSetTest {
+
+    @Test
+    void containsOnlyAddedTokens() {
+        TokenDigestSet set = new TokenDigestSet(true);
+        set.add(TokenDigestSet.hashHi("token-a"), TokenDigestSet.hashLo("token-a"), 1_000);
+
+        assertThat(set.contains("token-a")).isTrue();
+        assertThat(set.contains("token-b")).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void sweepRemovesInExpiryOrderAndHonoursExtendedExpiry() {
+        TokenDigestSet set = new TokenDigestSet(false);
+        add(set, "early", 100);
+        add(set, "late", 300);
+        add(set, "extended", 100);
+        add(set, "extended", 500);
+
+        assertThat(set.sweep(200, Integer.MAX_VALUE)).isEqualTo(1);
+        assertThat(set.contains("early")).isFalse();
+        assertThat(set.contains("extended")).isTrue();
+
+        assertThat(set.sweep(1_000, 1)).isEqualTo(1);
+        assertThat(set.contains("late")).isFalse();
+        assertThat(set.contains("extended")).isTrue();
+    }
+
+    @Test
+    void matchesHashMapUnderRandomAddsAndSweeps() {
+        for (boolean bloom : new boolean[] {true, false}) {
+            TokenDigestSet set = new TokenDigestSet(bloom);
+            Map<String, Long> model = new HashMap<>();
+            Random random = new Random(7);
+            long now = 0;
+
+            for (int round = 0; round < 20; round++) {
+                for (int i = 0; i < 2_000; i++) {
+                    String token = "token-" + random.nextInt(20_000);
+                    long expiresAt = now + 1 + random.nextInt(5_000);
+                    add(set, token, expiresAt);
+                    model.merge(token, expiresAt, Math::max);
+                }
+                now += 1_000;
+                set.sweep(now, Integer.MAX_VALUE);
+                long cutoff = now;
+                model.values().removeIf(expiresAt -> expiresAt <= cutoff);
+
+                assertThat(set.size()).isEqualTo(model.size());
+                for (int i = 0; i < 20_000; i++) {
+                    String token = "token-" + i;
+                    assertThat(set.contains(token)).as(token).isEqualTo(model.containsKey(token));
+                }
+            }
+        }
+    }
+
+    private static void add(TokenDigestSet set, String token, long expiresAt) {
+        set.add(TokenDigestSet.hashHi(token), TokenDigestSet.hashLo(token), expiresAt);
+    }
+}
@@ -0,0 +1,67 @@
+package com.arijit.job_management_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.arijit.job_management_api.model.User;
+import com.arijit.job_management_api.repository.UserRepo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserDetailsServiceImplTest {
+
+    private final UserRepo repo = mock(UserRepo.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserDetailsServiceImpl service = new UserDetailsServiceImpl(100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "repo", repo);
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        service.registerMetrics();
+    }
+
+    @Test
+    void cachesKnownUsersUntilInvalidated() {
+        User user = new User();
+        user.setUsername("john");
+        user.setPassword("hash");
+        when(repo.findByUsername("john")).thenReturn(user);
+
+        assertThat(service.loadUserByUsername("john").getUsername()).isEqualTo("john");
+        assertThat(service.loadUserByUsername("john").getUsername()).isEqualTo("john");
+        verify(repo, times(1)).findByUsername("john");
+
+        service.invalidate("john");
+        service.loadUserByUsername("john");
+        verify(repo, times(2)).findByUsername("john");
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "userPrincipals").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void remembersUnknownUsersUntilRegistered() {
+        assertThatThrownBy(() -> service.loadUserByUsername("ghost")).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> service.loadUserByUsername("ghost")).isInstanceOf(UsernameNotFoundException.class);
+        verify(repo, times(1)).findByUsername("ghost");
+
+        User user = new User();
+        user.setUsername("ghost");
+        when(repo.findByUsername("ghost")).thenReturn(user);
+        service.invalidate("ghost");
+
+        assertThat(service.loadUserByUsername("ghost").getUsername()).isEqualTo("ghost");
+    }
+}